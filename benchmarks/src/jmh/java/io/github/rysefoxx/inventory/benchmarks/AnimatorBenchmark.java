@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.benchmarks;
+
+import io.github.rysefoxx.inventory.benchmarks.stub.BenchmarkPlugin;
+import io.github.rysefoxx.inventory.benchmarks.stub.StubScheduler;
+import io.github.rysefoxx.inventory.benchmarks.stub.Stubs;
+import io.github.rysefoxx.inventory.plugin.animator.IntelligentItemLoreAnimator;
+import io.github.rysefoxx.inventory.plugin.animator.IntelligentItemNameAnimator;
+import io.github.rysefoxx.inventory.plugin.animator.IntelligentMaterialAnimator;
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.content.InventoryProvider;
+import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one server tick of running item animators, including the frame bodies and the flush of the rendered
+ * slots. The inventory is opened through the regular open path against the stub server.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnimatorBenchmark {
+
+    @Param({"name", "material", "lore"})
+    public String animator;
+
+    @Param({"1", "9", "54"})
+    public int slots;
+
+    private BenchmarkPlugin plugin;
+    private StubScheduler scheduler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.plugin = BenchmarkPlugin.create();
+        InventoryManager manager = this.plugin.newManager();
+        Player player = Stubs.player("Animator");
+        IntelligentItem item = IntelligentItem.empty(Stubs.item(Material.PAPER, "Animated lore line", "Static lore line"));
+
+        this.scheduler = Stubs.install();
+        this.scheduler.reset();
+        RyseInventory inventory = RyseInventory.builder()
+                .rows(6)
+                .provider(new InventoryProvider() {
+                    @Override
+                    public void init(Player player, InventoryContents contents) {
+                        for (int slot = 0; slot < slots; slot++)
+                            contents.set(slot, item);
+                    }
+                })
+                .build(this.plugin, manager);
+
+        inventory.open(player);
+        this.scheduler.tick();
+
+        InventoryContents contents = manager.getContents(player.getUniqueId())
+                .orElseThrow(() -> new IllegalStateException("The inventory was not opened."));
+
+        IntelligentItemColor first = IntelligentItemColor.builder().bukkitColor(ChatColor.RED).build();
+        IntelligentItemColor second = IntelligentItemColor.builder().bukkitColor(ChatColor.GOLD).build();
+
+        for (int slot = 0; slot < this.slots; slot++)
+            animate(contents, item, slot, first, second);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.scheduler.reset();
+    }
+
+    @Benchmark
+    public void tick() {
+        this.scheduler.tick();
+    }
+
+    private void animate(InventoryContents contents, IntelligentItem item, int slot,
+                         IntelligentItemColor first, IntelligentItemColor second) {
+        switch (this.animator) {
+            case "name":
+                IntelligentItemNameAnimator.builder(this.plugin)
+                        .item(item)
+                        .slot(slot)
+                        .loop()
+                        .color('a', first)
+                        .color('b', second)
+                        .frames("aaaaa", "bbbbb")
+                        .period(50, TimeSetting.MILLISECONDS)
+                        .build(contents)
+                        .animate();
+                break;
+            case "material":
+                IntelligentMaterialAnimator.builder(this.plugin)
+                        .item(item)
+                        .slot(slot)
+                        .loop()
+                        .material('a', Material.PAPER)
+                        .material('b', Material.BOOK)
+                        .frames("ab")
+                        .period(50, TimeSetting.MILLISECONDS)
+                        .build(contents)
+                        .animate();
+                break;
+            case "lore":
+                IntelligentItemLoreAnimator.builder(this.plugin)
+                        .item(item)
+                        .slot(slot)
+                        .loop()
+                        .color('a', first)
+                        .color('b', second)
+                        .lore(0, "ab")
+                        .period(50, TimeSetting.MILLISECONDS)
+                        .build(contents)
+                        .animate();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown animator " + this.animator);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.benchmarks;
+
+import io.github.rysefoxx.inventory.benchmarks.stub.BenchmarkPlugin;
+import io.github.rysefoxx.inventory.benchmarks.stub.Stubs;
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.content.InventoryProvider;
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import io.github.rysefoxx.inventory.plugin.pagination.SlotIterator;
+import io.github.rysefoxx.inventory.plugin.pattern.SlotIteratorPattern;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RyseInventory#loadByPage(InventoryContents)}, which distributes the items over the pages. The
+ * "iterator" layout goes through findAllEmptySlots, the "pattern" layout through applyPattern.
+ * <p>
+ * RyseInventory caches the empty slots after the first run, so every invocation works on a fresh inventory.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoadByPageBenchmark {
+
+    private static final int ITEMS_PER_PAGE = 28;
+
+    @Param({"50", "500", "5000", "50000"})
+    public int items;
+
+    @Param({"iterator", "pattern"})
+    public String layout;
+
+    private BenchmarkPlugin plugin;
+    private InventoryManager manager;
+    private Player player;
+    private ItemStack itemStack;
+
+    private RyseInventory inventory;
+    private InventoryContents contents;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        this.plugin = BenchmarkPlugin.create();
+        this.manager = this.plugin.newManager();
+        this.player = Stubs.player("LoadByPage");
+        this.itemStack = Stubs.item(Material.STONE);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        this.inventory = RyseInventory.builder()
+                .rows(6)
+                .provider(new InventoryProvider() {
+                })
+                .build(this.plugin, this.manager);
+
+        this.contents = new InventoryContents(this.player, this.inventory, this.plugin);
+        this.contents.pagination().setItemsPerPage(ITEMS_PER_PAGE);
+        for (int i = 0; i < this.items; i++)
+            this.contents.pagination().addItem(IntelligentItem.empty(this.itemStack));
+
+        SlotIterator.Builder iterator = SlotIterator.builder()
+                .startPosition(1, 1)
+                .type(SlotIterator.SlotIteratorType.HORIZONTAL);
+
+        if (this.layout.equals("pattern")) {
+            iterator.withPattern(SlotIteratorPattern.builder()
+                    .define(
+                            "xxxxxxxxx",
+                            "x-------x",
+                            "x-------x",
+                            "x-------x",
+                            "x-------x",
+                            "xxxxxxxxx")
+                    .attach('-')
+                    .buildPattern());
+        }
+
+        this.contents.pagination().iterator(iterator.build());
+    }
+
+    @Benchmark
+    public InventoryContents loadByPage() {
+        this.inventory.loadByPage(this.contents);
+        return this.contents;
+    }
+}
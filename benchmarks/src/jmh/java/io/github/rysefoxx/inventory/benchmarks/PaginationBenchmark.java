@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.benchmarks;
+
+import io.github.rysefoxx.inventory.benchmarks.stub.BenchmarkPlugin;
+import io.github.rysefoxx.inventory.benchmarks.stub.Stubs;
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import io.github.rysefoxx.inventory.plugin.content.InventoryProvider;
+import io.github.rysefoxx.inventory.plugin.pagination.Pagination;
+import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the slot lookups and writes of {@link Pagination} with a growing number of stored items.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PaginationBenchmark {
+
+    private static final int SLOTS_PER_PAGE = 54;
+
+    @Param({"50", "500", "5000", "50000"})
+    public int items;
+
+    private Pagination pagination;
+    private IntelligentItem replacement;
+    private int pages;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkPlugin plugin = BenchmarkPlugin.create();
+        RyseInventory inventory = RyseInventory.builder()
+                .rows(6)
+                .provider(new InventoryProvider() {
+                })
+                .build(plugin, plugin.newManager());
+
+        this.pagination = new Pagination(inventory);
+        for (int i = 0; i < this.items; i++)
+            this.pagination.setItem(i % SLOTS_PER_PAGE, i / SLOTS_PER_PAGE, IntelligentItem.empty(Stubs.item(Material.STONE)), false);
+
+        this.pages = (this.items + SLOTS_PER_PAGE - 1) / SLOTS_PER_PAGE;
+        this.replacement = IntelligentItem.empty(Stubs.item(Material.DIAMOND));
+    }
+
+    @Benchmark
+    public IntelligentItem get() {
+        int index = next();
+        return this.pagination.get(index % SLOTS_PER_PAGE, (index / SLOTS_PER_PAGE) % this.pages);
+    }
+
+    @Benchmark
+    public void setItem() {
+        int index = next();
+        this.pagination.setItem(index % SLOTS_PER_PAGE, (index / SLOTS_PER_PAGE) % this.pages, this.replacement, false);
+    }
+
+    private int next() {
+        int index = this.cursor;
+        this.cursor = index + 1 == this.items ? 0 : index + 1;
+        return index;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.benchmarks;
+
+import io.github.rysefoxx.inventory.benchmarks.stub.Stubs;
+import io.github.rysefoxx.inventory.plugin.util.TitleUpdater;
+import net.minecraft.server.v1_16_R3.Container;
+import net.minecraft.server.v1_16_R3.EntityPlayer;
+import net.minecraft.server.v1_16_R3.PlayerConnection;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one frame of a title animation sent through {@link TitleUpdater#updateInventory(Player, String)}, which
+ * looks up the connection, the window id and the container type on every call, with a {@link TitleUpdater.Channel}
+ * that looked them up once. The NMS and CraftBukkit classes are stand-ins for 1.16.5, so the numbers show the
+ * overhead of the reflective lookups and not the cost of the network.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TitleBenchmark {
+
+    private static final String[] FRAMES = {"§aShop", "§bShop", "§cShop", "§dShop", "§eShop", "§fShop"};
+
+    @Param({"0", "9", "54"})
+    public int items;
+
+    private Player player;
+    private PlayerConnection connection;
+    private TitleUpdater.Channel channel;
+    private int frame;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Stubs.install();
+
+        Inventory top = Stubs.inventory(54);
+        for (int slot = 0; slot < this.items; slot++)
+            top.setItem(slot, Stubs.item(Material.PAPER));
+
+        this.connection = new PlayerConnection();
+        EntityPlayer handle = new EntityPlayer(this.connection, new Container(1, Stubs.view(top, Stubs.inventory(36))));
+        this.player = Stubs.craftPlayer("Title", handle);
+        this.channel = TitleUpdater.openChannel(this.player);
+        if (this.channel == null)
+            throw new IllegalStateException("The stub window cannot change its title.");
+    }
+
+    @Benchmark
+    public int lookupPerFrame() {
+        TitleUpdater.updateInventory(this.player, nextFrame());
+        return this.connection.getSent();
+    }
+
+    @Benchmark
+    public int cachedChannel() {
+        this.channel.update(nextFrame());
+        return this.connection.getSent();
+    }
+
+    private String nextFrame() {
+        this.frame = (this.frame + 1) % FRAMES.length;
+        return FRAMES[this.frame];
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.benchmarks.stub;
+
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * An enabled plugin that is not loaded by a server. It deliberately has no {@link InventoryManager} field, the manager
+ * is passed to {@code RyseInventory.Builder#build(Plugin, InventoryManager)} instead.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+public final class BenchmarkPlugin extends JavaPlugin {
+
+    @SuppressWarnings("deprecation")
+    private BenchmarkPlugin(@NotNull File dataFolder) {
+        super(new JavaPluginLoader(Bukkit.getServer()),
+                new PluginDescriptionFile("RyseInventoryBenchmarks", "1.0", BenchmarkPlugin.class.getName()),
+                dataFolder,
+                new File(dataFolder, "RyseInventoryBenchmarks.jar"));
+    }
+
+    /**
+     * Installs the stub server if needed and creates an enabled plugin.
+     *
+     * @return The plugin.
+     */
+    public static @NotNull BenchmarkPlugin create() {
+        Stubs.install();
+
+        BenchmarkPlugin plugin = new BenchmarkPlugin(new File(System.getProperty("java.io.tmpdir"), "ryseinventory-benchmarks"));
+        plugin.setEnabled(true);
+        return plugin;
+    }
+
+    /**
+     * @return A new InventoryManager that is already invoked.
+     */
+    public @NotNull InventoryManager newManager() {
+        InventoryManager manager = new InventoryManager(this);
+        manager.invoke();
+        return manager;
+    }
+}
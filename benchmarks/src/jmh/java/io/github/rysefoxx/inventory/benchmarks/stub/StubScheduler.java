@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.benchmarks.stub;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A BukkitScheduler that only runs tasks when {@link #tick()} is called. Delays are ignored: one-shot tasks run on the
+ * next tick and repeating tasks run on every tick, so one call to {@link #tick()} is one server tick of work.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+public final class StubScheduler implements InvocationHandler {
+
+    private final List<Task> repeating = new ArrayList<>();
+    private List<Task> pending = new ArrayList<>();
+    private int nextId;
+
+    StubScheduler() {
+    }
+
+    /**
+     * Runs every repeating task once and every one-shot task that was scheduled before this call.
+     */
+    public void tick() {
+        for (Task task : new ArrayList<>(this.repeating)) {
+            if (task.cancelled) continue;
+            task.runnable.run();
+        }
+        this.repeating.removeIf(task -> task.cancelled);
+
+        List<Task> due = this.pending;
+        this.pending = new ArrayList<>();
+        for (Task task : due) {
+            if (task.cancelled) continue;
+            task.runnable.run();
+        }
+    }
+
+    /**
+     * Drops all scheduled tasks.
+     */
+    public void reset() {
+        this.repeating.clear();
+        this.pending.clear();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        switch (name) {
+            case "runTask":
+            case "runTaskLater":
+            case "runTaskAsynchronously":
+            case "runTaskLaterAsynchronously":
+                return schedule((Plugin) args[0], (Runnable) args[1], false).handle;
+            case "runTaskTimer":
+            case "runTaskTimerAsynchronously":
+                return schedule((Plugin) args[0], (Runnable) args[1], true).handle;
+            case "scheduleSyncDelayedTask":
+            case "scheduleAsyncDelayedTask":
+                return schedule((Plugin) args[0], (Runnable) args[1], false).id;
+            case "scheduleSyncRepeatingTask":
+            case "scheduleAsyncRepeatingTask":
+                return schedule((Plugin) args[0], (Runnable) args[1], true).id;
+            case "cancelTask":
+                cancel((Integer) args[0]);
+                return null;
+            case "cancelAllTasks":
+            case "cancelTasks":
+                reset();
+                return null;
+            case "isCurrentlyRunning":
+            case "isQueued":
+                return false;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "StubScheduler";
+            default:
+                return method.getReturnType() == List.class ? new ArrayList<>() : null;
+        }
+    }
+
+    private @NotNull Task schedule(@NotNull Plugin plugin, @NotNull Runnable runnable, boolean repeat) {
+        Task task = new Task(++this.nextId, plugin, runnable, repeat);
+        if (repeat) this.repeating.add(task);
+        else this.pending.add(task);
+        return task;
+    }
+
+    private void cancel(int id) {
+        for (Task task : this.repeating)
+            if (task.id == id) task.cancelled = true;
+        for (Task task : this.pending)
+            if (task.id == id) task.cancelled = true;
+    }
+
+    private static final class Task implements InvocationHandler {
+
+        private final int id;
+        private final Plugin owner;
+        private final Runnable runnable;
+        private final boolean repeat;
+        private final BukkitTask handle;
+        private boolean cancelled;
+
+        private Task(int id, @NotNull Plugin owner, @NotNull Runnable runnable, boolean repeat) {
+            this.id = id;
+            this.owner = owner;
+            this.runnable = runnable;
+            this.repeat = repeat;
+            this.handle = (BukkitTask) Proxy.newProxyInstance(Task.class.getClassLoader(), new Class<?>[]{BukkitTask.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getTaskId":
+                    return this.id;
+                case "getOwner":
+                    return this.owner;
+                case "isSync":
+                    return true;
+                case "isCancelled":
+                    return this.cancelled;
+                case "cancel":
+                    this.cancelled = true;
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return this.id;
+                default:
+                    return "BukkitTask#" + this.id + (this.repeat ? " (repeating)" : "");
+            }
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.benchmarks.stub;
+
+import net.minecraft.server.v1_16_R3.EntityPlayer;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.craftbukkit.v1_16_R3.entity.CraftPlayer;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Headless stand-ins for the parts of the Bukkit API that RyseInventory touches. Everything that is not needed by the
+ * benchmarks answers with a neutral default value.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+public final class Stubs {
+
+    private static final Logger LOGGER = Logger.getLogger("RyseInventoryBenchmarks");
+    private static final StubScheduler SCHEDULER = new StubScheduler();
+
+    private Stubs() {
+    }
+
+    /**
+     * Installs the stub server once and returns its scheduler.
+     *
+     * @return The scheduler that drives all tasks of the benchmarks.
+     */
+    public static synchronized @NotNull StubScheduler install() {
+        if (Bukkit.getServer() == null)
+            Bukkit.setServer(proxy(Server.class, new ServerHandler()));
+
+        return SCHEDULER;
+    }
+
+    /**
+     * @param name The name of the player.
+     * @return A player that only knows its name and UUID.
+     */
+    public static @NotNull Player player(@NotNull String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return proxy(Player.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                case "getDisplayName":
+                    return name;
+                default:
+                    return fallback(proxy, method, args);
+            }
+        });
+    }
+
+    /**
+     * @param name   The name of the player.
+     * @param handle The NMS player behind the player.
+     * @return A CraftBukkit player that is shown the window of its handle and holds nothing on the cursor.
+     */
+    public static @NotNull Player craftPlayer(@NotNull String name, @NotNull EntityPlayer handle) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+        return proxy(CraftPlayer.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                case "getDisplayName":
+                    return name;
+                case "getHandle":
+                    return handle;
+                case "getOpenInventory":
+                    return handle.activeContainer.getBukkitView();
+                default:
+                    return fallback(proxy, method, args);
+            }
+        });
+    }
+
+    /**
+     * @param top    The top inventory of the view.
+     * @param bottom The bottom inventory of the view.
+     * @return A view of a chest window.
+     */
+    public static @NotNull InventoryView view(@NotNull Inventory top, @NotNull Inventory bottom) {
+        return new InventoryView() {
+            @Override
+            public Inventory getTopInventory() {
+                return top;
+            }
+
+            @Override
+            public Inventory getBottomInventory() {
+                return bottom;
+            }
+
+            @Override
+            public HumanEntity getPlayer() {
+                return null;
+            }
+
+            @Override
+            public InventoryType getType() {
+                return InventoryType.CHEST;
+            }
+        };
+    }
+
+    /**
+     * @param size The number of slots.
+     * @return An inventory that stores its contents in an array.
+     */
+    public static @NotNull Inventory inventory(int size) {
+        return proxy(Inventory.class, new InventoryHandler(size));
+    }
+
+    /**
+     * @param material The material of the item.
+     * @param lore     The lore of the item.
+     * @return An ItemStack with a display name and the given lore.
+     */
+    public static @NotNull ItemStack item(@NotNull Material material, String @NotNull ... lore) {
+        ItemStack itemStack = new ItemStack(material);
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        itemMeta.setDisplayName(material.name());
+        if (lore.length > 0)
+            itemMeta.setLore(Arrays.asList(lore));
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> @NotNull T proxy(@NotNull Class<T> type, @NotNull InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    /**
+     * Answers the Object methods by identity and everything else with a neutral default.
+     */
+    private static @Nullable Object fallback(@NotNull Object proxy, @NotNull Method method, @Nullable Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return args != null && args.length == 1 && proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return method.getDeclaringClass().getSimpleName() + "Stub";
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static @Nullable Object defaultValue(@NotNull Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0D;
+        if (type == float.class) return 0F;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return (char) 0;
+        if (type == String.class) return "";
+        if (type == Logger.class) return LOGGER;
+        if (type == List.class || type == Collection.class) return new ArrayList<>();
+        if (type == Set.class) return new HashSet<>();
+        if (type == Map.class) return new HashMap<>();
+        if (type.isInterface()) return proxy(type, Stubs::fallback);
+        return null;
+    }
+
+    private static final class ServerHandler implements InvocationHandler {
+
+        private final ItemFactory itemFactory = proxy(ItemFactory.class, new ItemFactoryHandler());
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getScheduler":
+                    return proxy(BukkitScheduler.class, SCHEDULER);
+                case "getItemFactory":
+                    return this.itemFactory;
+                case "isPrimaryThread":
+                    return true;
+                case "getOnlinePlayers":
+                    return Collections.emptyList();
+                case "createInventory":
+                    if (args.length > 1 && args[1] instanceof InventoryType)
+                        return inventory(((InventoryType) args[1]).getDefaultSize());
+                    return inventory(args.length > 1 ? (Integer) args[1] : InventoryType.CHEST.getDefaultSize());
+                default:
+                    return fallback(proxy, method, args);
+            }
+        }
+    }
+
+    private static final class ItemFactoryHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getItemMeta":
+                    return ItemMetaHandler.create(new HashMap<>());
+                case "isApplicable":
+                    return true;
+                case "asMetaFor":
+                    return args[0];
+                case "equals":
+                    if (args.length == 2)
+                        return Objects.equals(args[0], args[1]);
+                    return fallback(proxy, method, args);
+                default:
+                    return fallback(proxy, method, args);
+            }
+        }
+    }
+
+    /**
+     * An ItemMeta that stores every setter call in a map and answers the matching getters from it.
+     */
+    private static final class ItemMetaHandler implements InvocationHandler {
+
+        private final Map<String, Object> properties;
+
+        private ItemMetaHandler(@NotNull Map<String, Object> properties) {
+            this.properties = properties;
+        }
+
+        private static @NotNull ItemMeta create(@NotNull Map<String, Object> properties) {
+            return proxy(ItemMeta.class, new ItemMetaHandler(properties));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            switch (name) {
+                case "clone":
+                    return create(new HashMap<>(this.properties));
+                case "equals":
+                    return args[0] != null
+                            && Proxy.isProxyClass(args[0].getClass())
+                            && Proxy.getInvocationHandler(args[0]) instanceof ItemMetaHandler
+                            && this.properties.equals(((ItemMetaHandler) Proxy.getInvocationHandler(args[0])).properties);
+                case "hashCode":
+                    return this.properties.hashCode();
+                case "toString":
+                    return "ItemMeta" + this.properties;
+                case "serialize":
+                    return new HashMap<>(this.properties);
+                default:
+                    break;
+            }
+
+            if (name.startsWith("set") && args != null && args.length == 1) {
+                Object value = args[0] instanceof List ? new ArrayList<>((List<?>) args[0]) : args[0];
+                if (value == null) this.properties.remove(name.substring(3));
+                else this.properties.put(name.substring(3), value);
+                return null;
+            }
+            if (name.startsWith("has") && (args == null || args.length == 0))
+                return this.properties.containsKey(name.substring(3));
+
+            if (name.startsWith("get") && (args == null || args.length == 0)) {
+                Object value = this.properties.get(name.substring(3));
+                if (value instanceof List) return new ArrayList<>((List<?>) value);
+                return value != null ? value : defaultValue(method.getReturnType());
+            }
+            return fallback(proxy, method, args);
+        }
+    }
+
+    private static final class InventoryHandler implements InvocationHandler {
+
+        private final ItemStack[] contents;
+
+        private InventoryHandler(int size) {
+            this.contents = new ItemStack[size];
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "getSize":
+                    return this.contents.length;
+                case "getItem":
+                    return this.contents[(Integer) args[0]];
+                case "setItem":
+                    this.contents[(Integer) args[0]] = (ItemStack) args[1];
+                    return null;
+                case "getContents":
+                    return this.contents.clone();
+                case "setContents":
+                    Arrays.fill(this.contents, null);
+                    ItemStack[] items = (ItemStack[]) args[0];
+                    System.arraycopy(items, 0, this.contents, 0, Math.min(items.length, this.contents.length));
+                    return null;
+                case "clear":
+                    if (args == null || args.length == 0) Arrays.fill(this.contents, null);
+                    else if (args[0] instanceof Integer) this.contents[(Integer) args[0]] = null;
+                    return null;
+                case "getViewers":
+                    return new ArrayList<>();
+                case "getType":
+                    return InventoryType.CHEST;
+                default:
+                    return fallback(proxy, method, args);
+            }
+        }
+    }
+}
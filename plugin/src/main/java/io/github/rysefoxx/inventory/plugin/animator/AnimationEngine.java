@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.logging.Level;
+
+/**
+ * Drives every animation of an {@link io.github.rysefoxx.inventory.plugin.pagination.InventoryManager} from a single
+ * repeating task. Tasks are kept in a hashed timer wheel keyed by their next run, so each tick only touches the tasks
+ * that are due and cancelling a task is constant time.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+@ApiStatus.Internal
+public final class AnimationEngine {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private static final int UNLINKED = -2;
+    private static final int PENDING = -1;
+
+    private final Plugin plugin;
+    private final Node[] wheel = new Node[WHEEL_SIZE];
+
+    private BukkitTask driver;
+    private Node pending;
+    private long tick;
+    private int scheduled;
+
+    public AnimationEngine(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * @return The amount of tasks that are currently scheduled.
+     */
+    public @Nonnegative int scheduled() {
+        return this.scheduled;
+    }
+
+    /**
+     * Cancels all tasks and stops the driving task.
+     */
+    public void shutdown() {
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            Node node = this.wheel[i];
+            this.wheel[i] = null;
+            release(node);
+        }
+        release(this.pending);
+        this.pending = null;
+        this.scheduled = 0;
+        stopDriver();
+    }
+
+    /**
+     * Schedules the task to run after the delay and then every period ticks.
+     *
+     * @param task   The task to schedule.
+     * @param delay  The delay in ticks before the first run.
+     * @param period The period in ticks between two runs.
+     * @throws IllegalStateException if the task was already scheduled or cancelled.
+     */
+    void schedule(@NotNull AnimationTask task, long delay, long period) throws IllegalStateException {
+        Node node = task.node();
+        if (node.engine != null || node.cancelled)
+            throw new IllegalStateException("The animation task has already been scheduled or was cancelled.");
+
+        node.engine = this;
+        node.period = Math.max(1, period);
+
+        link(node, Math.max(1, delay));
+        this.scheduled++;
+
+        if (this.driver == null)
+            this.driver = Bukkit.getScheduler().runTaskTimer(this.plugin, this::tick, 1, 1);
+    }
+
+    /**
+     * Cancels the task. If the task is currently running, it will not be scheduled again.
+     *
+     * @param task The task to cancel.
+     */
+    void cancel(@NotNull AnimationTask task) {
+        Node node = task.node();
+        if (node.cancelled) return;
+
+        node.cancelled = true;
+        if (node.bucket == UNLINKED) return;
+
+        unlink(node);
+        this.scheduled--;
+    }
+
+    private void tick() {
+        this.tick++;
+        int index = (int) (this.tick & MASK);
+
+        this.pending = this.wheel[index];
+        this.wheel[index] = null;
+
+        for (Node node = this.pending; node != null; node = node.next)
+            node.bucket = PENDING;
+
+        Node node;
+        while ((node = this.pending) != null) {
+            this.pending = node.next;
+            if (this.pending != null)
+                this.pending.prev = null;
+
+            node.next = null;
+            node.bucket = UNLINKED;
+
+            if (node.rounds > 0) {
+                node.rounds--;
+                insert(node, index);
+                continue;
+            }
+
+            run(node);
+
+            if (node.cancelled) {
+                this.scheduled--;
+                continue;
+            }
+            link(node, node.period);
+        }
+
+        if (this.scheduled <= 0)
+            stopDriver();
+    }
+
+    private void run(@NotNull Node node) {
+        try {
+            node.task.run();
+        } catch (Throwable throwable) {
+            this.plugin.getLogger().log(Level.WARNING, "An animation task generated an exception", throwable);
+        }
+    }
+
+    private void link(@NotNull Node node, long ticks) {
+        node.rounds = (ticks - 1) / WHEEL_SIZE;
+        insert(node, (int) ((this.tick + ticks) & MASK));
+    }
+
+    private void insert(@NotNull Node node, int bucket) {
+        Node head = this.wheel[bucket];
+        node.prev = null;
+        node.next = head;
+        node.bucket = bucket;
+        if (head != null)
+            head.prev = node;
+
+        this.wheel[bucket] = node;
+    }
+
+    private void unlink(@NotNull Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else if (node.bucket == PENDING) {
+            this.pending = node.next;
+        } else {
+            this.wheel[node.bucket] = node.next;
+        }
+
+        if (node.next != null)
+            node.next.prev = node.prev;
+
+        node.prev = null;
+        node.next = null;
+        node.bucket = UNLINKED;
+    }
+
+    private void release(@Nullable Node node) {
+        while (node != null) {
+            Node next = node.next;
+            node.cancelled = true;
+            node.prev = null;
+            node.next = null;
+            node.bucket = UNLINKED;
+            node = next;
+        }
+    }
+
+    private void stopDriver() {
+        if (this.driver == null) return;
+
+        this.driver.cancel();
+        this.driver = null;
+    }
+
+    /**
+     * Wheel entry of an {@link AnimationTask}.
+     */
+    static final class Node {
+        private final AnimationTask task;
+        private AnimationEngine engine;
+        private Node prev;
+        private Node next;
+        private int bucket = UNLINKED;
+        private long rounds;
+        private long period;
+        private boolean cancelled;
+
+        Node(@NotNull AnimationTask task) {
+            this.task = task;
+        }
+
+        boolean isScheduled() {
+            return this.engine != null && !this.cancelled;
+        }
+
+        boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        void cancelUnscheduled() {
+            this.cancelled = true;
+        }
+
+        @Nullable AnimationEngine engine() {
+            return this.engine;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * A repeating animation step that is driven by the {@link AnimationEngine} of an inventory manager instead of its own
+ * Bukkit task.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+public abstract class AnimationTask implements Runnable {
+
+    private final AnimationEngine.Node node = new AnimationEngine.Node(this);
+
+    /**
+     * Schedules this task to repeatedly run until cancelled.
+     *
+     * @param engine The engine that drives the task.
+     * @param delay  The ticks to wait before running the task for the first time.
+     * @param period The ticks to wait between runs.
+     * @return This task.
+     * @throws IllegalStateException if this task was already scheduled or cancelled.
+     */
+    public final @NotNull AnimationTask runTaskTimer(@NotNull AnimationEngine engine,
+                                                     @Nonnegative long delay,
+                                                     @Nonnegative long period) throws IllegalStateException {
+        engine.schedule(this, delay, period);
+        return this;
+    }
+
+    /**
+     * Cancels this task. It will not run again.
+     */
+    public final void cancel() {
+        AnimationEngine engine = this.node.engine();
+        if (engine == null) {
+            this.node.cancelUnscheduled();
+            return;
+        }
+        engine.cancel(this);
+    }
+
+    /**
+     * @return true if this task was cancelled.
+     */
+    public final boolean isCancelled() {
+        return this.node.isCancelled();
+    }
+
+    /**
+     * @return true if this task is scheduled and was not cancelled yet.
+     */
+    public final boolean isScheduled() {
+        return this.node.isScheduled();
+    }
+
+    @NotNull
+    AnimationEngine.Node node() {
+        return this.node;
+    }
+}
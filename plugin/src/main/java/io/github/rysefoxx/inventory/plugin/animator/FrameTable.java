@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
+import io.github.rysefoxx.inventory.plugin.enums.IntelligentItemAnimatorType;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * An immutable, precompiled sequence of animation frames. Every entry is the value that is pushed on one tick, a null
+ * entry means that nothing is pushed on that tick. Once the end is reached, the sequence either continues at the loop
+ * index or the animation is finished.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class FrameTable<T> {
+
+    private final Object[] frames;
+    private final int loopIndex;
+
+    private FrameTable(Object @NotNull [] frames, int loopIndex) {
+        this.frames = frames;
+        this.loopIndex = loopIndex;
+    }
+
+    /**
+     * Compiles the colored frames of a text.
+     *
+     * @param text   The text to animate.
+     * @param frames The frames, each character refers to a color.
+     * @param colors The colors of the frame characters.
+     * @param type   How the text is animated.
+     * @param loop   If the animation starts again after the last frame.
+     * @return The compiled table.
+     */
+    static @NotNull FrameTable<String> compile(@NotNull String text,
+                                               @NotNull List<String> frames,
+                                               @NotNull Map<Character, IntelligentItemColor> colors,
+                                               @NotNull IntelligentItemAnimatorType type,
+                                               boolean loop) {
+        List<String> remainingFrames = new ArrayList<>();
+        for (String frame : frames) {
+            if (frame.isEmpty()) continue;
+            remainingFrames.add(frame);
+        }
+
+        char[] letters = text.toCharArray();
+        if (letters.length == 0 || remainingFrames.isEmpty())
+            return new FrameTable<>(new Object[0], -1);
+
+        Map<Character, String> prefixes = new HashMap<>();
+        colors.forEach((character, color) -> prefixes.put(character, prefix(color)));
+
+        List<String> output = new ArrayList<>();
+        int[] passStart = new int[remainingFrames.size()];
+        Arrays.fill(passStart, -1);
+
+        StringBuilder builder = new StringBuilder();
+        int colorState = 0;
+        int letterIndex = 0;
+        int frameIndex = 0;
+        boolean boundary = true;
+
+        while (true) {
+            if (letterIndex >= letters.length) {
+                if (!loop)
+                    remainingFrames.remove(0);
+
+                colorState = 0;
+                letterIndex = 0;
+                builder.setLength(0);
+                boundary = true;
+
+                if (frameIndex + 1 >= remainingFrames.size())
+                    frameIndex = 0;
+            }
+
+            if (remainingFrames.isEmpty())
+                return new FrameTable<>(output.toArray(), -1);
+
+            if (boundary && loop) {
+                if (passStart[frameIndex] != -1)
+                    return new FrameTable<>(output.toArray(), passStart[frameIndex]);
+
+                passStart[frameIndex] = output.size();
+            }
+            boundary = false;
+
+            String frame = remainingFrames.get(frameIndex);
+            if (colorState >= frame.length()) {
+                colorState = 0;
+                if (remainingFrames.size() > 1 && frameIndex + 1 != remainingFrames.size()) {
+                    frameIndex++;
+                    frame = remainingFrames.get(frameIndex);
+                }
+            }
+
+            String prefix = prefixes.get(frame.charAt(colorState));
+
+            if (type == IntelligentItemAnimatorType.FLASH) {
+                output.add(prefix + text);
+                colorState++;
+                letterIndex++;
+                continue;
+            }
+
+            char letter = letters[letterIndex];
+            builder.append(prefix).append(letter);
+            letterIndex++;
+
+            if (letter == ' ') {
+                output.add(null);
+                continue;
+            }
+
+            colorState++;
+            output.add(type == IntelligentItemAnimatorType.FULL_WORD
+                    ? builder + ChatColor.WHITE.toString() + text.substring(letterIndex)
+                    : builder.toString());
+        }
+    }
+
+    /**
+     * Compiles a text that is written letter by letter without colors. The sequence is repeated endlessly.
+     *
+     * @param text The text to animate.
+     * @return The compiled table.
+     */
+    static @NotNull FrameTable<String> compilePlain(@NotNull String text) {
+        if (text.isEmpty())
+            return new FrameTable<>(new Object[0], -1);
+
+        Object[] frames = new Object[text.length()];
+        for (int i = 0; i < frames.length; i++)
+            frames[i] = text.substring(0, i + 1);
+
+        return new FrameTable<>(frames, 0);
+    }
+
+    private static @NotNull String prefix(@NotNull IntelligentItemColor color) {
+        return color.getColor()
+                + (color.isBold() ? "§l" : "")
+                + (color.isUnderline() ? "§n" : "")
+                + (color.isItalic() ? "§o" : "")
+                + (color.isObfuscated() ? "§k" : "")
+                + (color.isStrikeThrough() ? "§m" : "");
+    }
+
+    /**
+     * Creates a table with the same timing where every pushed value is converted once.
+     *
+     * @param mapper The conversion.
+     * @param <R>    The new frame type.
+     * @return The converted table.
+     */
+    @SuppressWarnings("unchecked")
+    <R> @NotNull FrameTable<R> map(@NotNull Function<T, R> mapper) {
+        Object[] mapped = new Object[this.frames.length];
+        for (int i = 0; i < mapped.length; i++) {
+            if (this.frames[i] == null) continue;
+            mapped[i] = mapper.apply((T) this.frames[i]);
+        }
+        return new FrameTable<>(mapped, this.loopIndex);
+    }
+
+    /**
+     * @param index The tick index.
+     * @return The value pushed on the tick or null if nothing is pushed.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    T get(@Nonnegative int index) {
+        return (T) this.frames[index];
+    }
+
+    /**
+     * @return The amount of ticks in the table.
+     */
+    int length() {
+        return this.frames.length;
+    }
+
+    /**
+     * @return true if the animation continues at {@link #loopIndex()} after the last tick.
+     */
+    boolean loops() {
+        return this.loopIndex != -1;
+    }
+
+    /**
+     * @return The index the animation continues at after the last tick.
+     */
+    int loopIndex() {
+        return this.loopIndex;
+    }
+}
@@ -34,22 +34,17 @@ import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * @author Rysefoxx(Rysefoxx # 6772)
@@ -58,7 +53,7 @@ import java.util.Map;
 public class IntelligentItemLoreAnimator {
 
     private static Plugin plugin;
-    private final List<BukkitTask> tasks = new ArrayList<>();
+    private final List<AnimationTask> tasks = new ArrayList<>();
     private IntelligentItem intelligentItem;
     private HashMap<Integer, String> loreData = new HashMap<>();
     private HashMap<Character, IntelligentItemColor> frameColor = new HashMap<>();
@@ -72,6 +67,8 @@ public class IntelligentItemLoreAnimator {
     private InventoryContents contents;
     private ItemStack itemStack;
     private Object identifier;
+    private Map<Integer, FrameTable<String>> frameTables;
+    private int finishedLines;
 
     @Contract("_ -> new")
     public static @NotNull Builder builder(@NotNull Plugin plugin) {
@@ -96,281 +93,51 @@ public class IntelligentItemLoreAnimator {
         if (this.tasks.isEmpty())
             return false;
 
-        this.tasks.stream()
-                .filter(task -> task != null && Bukkit.getScheduler().isQueued(task.getTaskId()))
-                .forEach(BukkitTask::cancel);
+        this.tasks.forEach(AnimationTask::cancel);
         return true;
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
+     * Plays the precompiled frames of every animated lore line. Once every line of a non looping animation is
+     * finished, the animator is removed.
      */
     private void animateByType() {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.FLASH) {
-            animateWithFlash();
-        }
-    }
-
-    /**
-     * It loops through each frame of each line of lore, and updates the lore with the current frame
-     */
-    private void animateWithFlash() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-                final HashMap<Integer, String> framesCopy = loreData;
+        this.finishedLines = 0;
 
-                int subStringIndex = 0;
-                int colorState = 0;
-                int currentFrameIndex = 0;
+        for (Map.Entry<Integer, FrameTable<String>> entry : this.frameTables.entrySet()) {
+            int loreIndex = entry.getKey();
 
+            AnimationTask animationTask = new FrameAnimationTask<String>(entry.getValue()) {
                 @Override
-                public void run() {
-                    int loreIndex = entry.getKey();
-                    String frame = framesCopy.get(loreIndex);
-                    char[] currentFrames = frame.toCharArray();
-
-                    resetWhenFrameFinished(loreIndex, currentFrames);
-
-                    if (cancelIfListIsEmpty()) return;
-
-                    char singleFrame = currentFrames[this.colorState];
-                    IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                    String currentLore = buildLore(loreIndex, itemColor);
-
-                    this.colorState++;
-                    this.subStringIndex++;
-                    updateLore(contents, currentLore, loreIndex);
-                }
-
-                @NotNull
-                private String buildLore(@Nonnegative int loreIndex, @NotNull IntelligentItemColor itemColor) {
-                    return itemColor.getColor()
-                            + (itemColor.isBold() ? "§l" : "")
-                            + (itemColor.isUnderline() ? "§n" : "")
-                            + (itemColor.isItalic() ? "§o" : "")
-                            + (itemColor.isObfuscated() ? "§k" : "")
-                            + (itemColor.isStrikeThrough() ? "§m" : "")
-                            + ChatColor.stripColor(lore.get(loreIndex));
+                void render(@NotNull String frame) {
+                    updateLore(contents, frame, loreIndex);
                 }
 
-                private boolean cancelIfListIsEmpty() {
-                    if (this.framesCopy.isEmpty()) {
-                        inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                        return true;
-                    }
-                    return false;
-                }
-
-                private void resetWhenFrameFinished(@Nonnegative int loreIndex, char @NotNull [] currentFrames) {
-                    if (this.subStringIndex < currentFrames.length) return;
-
-                    if (!loop)
-                        this.framesCopy.remove(loreIndex);
-                    this.colorState = 0;
-                    this.subStringIndex = 0;
-
-                    if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                    this.currentFrameIndex = 0;
-                }
-
-            }, this.delay, this.period);
-            this.tasks.add(bukkitTask);
-        }
-    }
-
-    /**
-     * It takes a list of frames, and animates them by coloring each letter of the lore
-     */
-    private void animateByFullWord() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-                final HashMap<Integer, String> framesCopy = loreData;
-                final List<String> previous = new ArrayList<>();
-
-                int colorState = 0;
-                int subStringIndex = 0;
-                int currentFrameIndex = 0;
-
                 @Override
-                public void run() {
-                    int loreIndex = entry.getKey();
-                    String frame = framesCopy.get(loreIndex);
-                    String currentLoreFixed = lore.get(loreIndex);
-
-                    String currentLore = lore.get(loreIndex);
-                    char[] letters = currentLore.toCharArray();
-                    char[] currentFrames = frame.toCharArray();
-
-                    resetWhenFrameFinished(letters);
-
-                    if (cancelIfListIsEmpty()) return;
-
-                    if (this.colorState >= currentFrames.length)
-                        this.colorState = 0;
-
-                    char singleFrame = currentFrames[this.colorState];
-                    IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                    String letter = String.valueOf(letters[this.subStringIndex]);
-                    String rest = currentLoreFixed.substring(this.subStringIndex + 1);
-                    boolean addColor = !letter.equals(" ");
-
-                    StringBuilder newString = buildLoreBasedOnPrevious(itemColor, letter);
-
-                    currentLore = newString
-                            .append(ChatColor.WHITE).append(rest)
-                            .toString();
+                void finish() {
+                    finishedLines++;
+                    if (finishedLines < frameTables.size()) return;
 
-                    this.previous.add(newString.toString());
-
-                    this.subStringIndex++;
-
-                    if (!addColor) return;
-
-                    this.colorState++;
-                    updateLore(contents, currentLore, loreIndex);
-                }
-
-                @NotNull
-                private StringBuilder buildLoreBasedOnPrevious(IntelligentItemColor itemColor, String letter) {
-                    StringBuilder newString = new StringBuilder();
-                    if (this.subStringIndex != 0)
-                        this.previous.forEach(newString::append);
-
-                    newString.append(itemColor.getColor())
-                            .append(itemColor.isBold() ? "§l" : "")
-                            .append(itemColor.isUnderline() ? "§n" : "")
-                            .append(itemColor.isItalic() ? "§o" : "")
-                            .append(itemColor.isObfuscated() ? "§k" : "")
-                            .append(itemColor.isStrikeThrough() ? "§m" : "")
-                            .append(letter);
-                    return newString;
+                    inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
                 }
-
-                private boolean cancelIfListIsEmpty() {
-                    if (this.framesCopy.isEmpty()) {
-                        inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                        return true;
-                    }
-                    return false;
-                }
-
-                private void resetWhenFrameFinished(char @NotNull [] letters) {
-                    if (this.subStringIndex < letters.length) return;
-
-                    if (!loop)
-                        this.framesCopy.remove(0);
-                    this.colorState = 0;
-                    this.subStringIndex = 0;
-                    this.previous.clear();
-
-                    if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                    this.currentFrameIndex = 0;
-                }
-            }, this.delay, this.period);
-            this.tasks.add(bukkitTask);
+            }.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period);
+            this.tasks.add(animationTask);
         }
     }
 
     /**
-     * It loops through each frame, and then loops through each letter in the frame, and then loops through each color in
-     * the frame, and then adds the color to the letter, and then adds the letter to the lore
+     * Compiles every frame of every animated lore line into the line that is shown on that tick.
+     *
+     * @return The compiled frames per lore index.
      */
-    private void animateWordByWord() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-                final HashMap<Integer, String> framesCopy = loreData;
-
-                int colorState = 0;
-                int subStringIndex = 0;
-                int currentFrameIndex = 0;
-                String currentLore = "";
-
-                @Override
-                public void run() {
-                    int loreIndex = entry.getKey();
-                    String frame = framesCopy.get(loreIndex);
-                    String savedLore = ChatColor.stripColor(lore.get(loreIndex));
-
-                    char[] currentFrames = frame.toCharArray();
-                    char[] letters = !this.currentLore.isEmpty() ? ChatColor.stripColor(lore.get(loreIndex)).toCharArray() : savedLore.toCharArray();
-
-                    resetWhenFrameFinished(letters);
-
-                    if (cancelWhenListIsEmpty()) return;
+    private @NotNull Map<Integer, FrameTable<String>> compileFrames() {
+        Map<Integer, FrameTable<String>> tables = new HashMap<>();
 
-                    currentFrames = updateFramesWhenRequired(currentFrames);
-                    String letter = String.valueOf(letters[this.subStringIndex]);
-                    boolean addColor = !letter.equals(" ");
-
-                    char singleFrame = currentFrames[this.colorState];
-                    IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                    appendLetterToLore(letter, itemColor);
-
-                    this.subStringIndex++;
-
-                    if (!addColor) return;
-
-                    this.colorState++;
-                    updateLore(contents, this.currentLore, loreIndex);
-                }
-
-                private void appendLetterToLore(String letter, @NotNull IntelligentItemColor itemColor) {
-                    this.currentLore = this.currentLore +
-                            itemColor.getColor() +
-                            (itemColor.isBold() ? "§l" : "") +
-                            (itemColor.isUnderline() ? "§n" : "") +
-                            (itemColor.isItalic() ? "§o" : "") +
-                            (itemColor.isObfuscated() ? "§k" : "") +
-                            (itemColor.isStrikeThrough() ? "§m" : "") +
-                            letter;
-                }
-
-                private char @NotNull [] updateFramesWhenRequired(char @NotNull [] currentFrames) {
-                    if (this.colorState < currentFrames.length) return currentFrames;
-
-                    this.colorState = 0;
-                    if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                        this.currentFrameIndex++;
-                        currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                    }
-                    return currentFrames;
-                }
-
-                private boolean cancelWhenListIsEmpty() {
-                    if (this.framesCopy.isEmpty()) {
-                        inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                        return true;
-                    }
-                    return false;
-                }
-
-                private void resetWhenFrameFinished(char @NotNull [] letters) {
-                    if (this.subStringIndex < letters.length) return;
-
-                    if (!loop)
-                        this.framesCopy.remove(0);
-                    this.colorState = 0;
-                    this.subStringIndex = 0;
-                    this.currentLore = "";
-
-                    if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                    this.currentFrameIndex = 0;
-                }
-            }, this.delay, this.period);
-            this.tasks.add(bukkitTask);
+        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
+            String fixedLore = ChatColor.stripColor(this.lore.get(entry.getKey()));
+            tables.put(entry.getKey(), FrameTable.compile(fixedLore, Collections.singletonList(entry.getValue()), this.frameColor, this.type, this.loop));
         }
+        return Collections.unmodifiableMap(tables);
     }
 
     /**
@@ -399,10 +166,10 @@ public class IntelligentItemLoreAnimator {
     /**
      * This function returns a list of tasks.
      *
-     * @return A list of BukkitTasks
+     * @return A list of AnimationTasks
      */
     @ApiStatus.Internal
-    public @NotNull List<BukkitTask> getTasks() {
+    public @NotNull List<AnimationTask> getTasks() {
         return this.tasks;
     }
 
@@ -665,9 +432,12 @@ public class IntelligentItemLoreAnimator {
             animator.type = this.type;
             animator.loreData = this.loreData;
             animator.identifier = this.identifier;
-            animator.itemStack = this.intelligentItem.getItemStack();
+            animator.itemStack = new ItemStack(this.intelligentItem.getItemStack());
             animator.contents = contents;
             animator.inventory = contents.pagination().inventory();
+            animator.frameTables = this.preset != null && this.preset.frameTables != null
+                    ? this.preset.frameTables
+                    : animator.compileFrames();
             return animator;
         }
     }
@@ -34,12 +34,10 @@ import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -63,13 +61,14 @@ public class IntelligentItemNameAnimator {
     private int period = 20;
     private int delay = 0;
     private int slot = -1;
-    private BukkitTask task;
+    private AnimationTask task;
     private boolean loop;
     private RyseInventory inventory;
     private InventoryContents contents;
     private IntelligentItem intelligentItem;
     private String displayName;
     private Object identifier;
+    private FrameTable<ItemStack> frameTable;
 
     @Contract("_ -> new")
     public static @NotNull Builder builder(@NotNull Plugin plugin) {
@@ -91,7 +90,7 @@ public class IntelligentItemNameAnimator {
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || !Bukkit.getScheduler().isQueued(this.task.getTaskId()))
+        if (this.task == null || !this.task.isScheduled())
             return false;
 
         this.task.cancel();
@@ -99,290 +98,40 @@ public class IntelligentItemNameAnimator {
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
+     * Plays the precompiled frames of the display name.
      */
     private void animateByType() {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.FLASH) {
-            animateWithFlash();
-        }
-    }
-
-    /**
-     * It takes the frames, and loops through them, and then loops through the characters in the frame, and then loops
-     * through the characters in the display name, and then updates the display name with the current frame character
-     */
-    private void animateWithFlash() {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-            final List<String> framesCopy = frames;
-            final String fixedDisplayName = ChatColor.stripColor(displayName);
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-
+        this.task = new FrameAnimationTask<ItemStack>(this.frameTable) {
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String currentName = itemColor.getColor()
-                        + (itemColor.isBold() ? "§l" : "")
-                        + (itemColor.isUnderline() ? "§n" : "")
-                        + (itemColor.isItalic() ? "§o" : "")
-                        + (itemColor.isObfuscated() ? "§k" : "")
-                        + (itemColor.isStrikeThrough() ? "§m" : "")
-                        + this.fixedDisplayName;
-
-                this.colorState++;
-                this.subStringIndex++;
-                updateDisplayName(contents, currentName);
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-                if (this.colorState < currentFrames.length) return currentFrames;
-
-                this.colorState = 0;
-
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                    return true;
-                }
-                return false;
+            void render(@NotNull ItemStack frame) {
+                contents.update(slot, frame);
             }
 
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the frames and the display name, and then it loops through the frames and the display name, and then it
-     * updates the display name with the current frame and the current letter
-     */
-    private void animateByFullWord() {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-            final List<String> framesCopy = frames;
-            final List<String> previous = new ArrayList<>();
-            final String currentNameFixed = ChatColor.stripColor(displayName);
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-                String rest = this.currentNameFixed.substring(this.subStringIndex + 1);
-                boolean addColor = !letter.equals(" ");
-
-                StringBuilder newString = new StringBuilder();
-                if (this.subStringIndex != 0)
-                    this.previous.forEach(newString::append);
-
-                newString.append(itemColor.getColor())
-                        .append(itemColor.isBold() ? "§l" : "")
-                        .append(itemColor.isUnderline() ? "§n" : "")
-                        .append(itemColor.isItalic() ? "§o" : "")
-                        .append(itemColor.isObfuscated() ? "§k" : "")
-                        .append(itemColor.isStrikeThrough() ? "§m" : "")
-                        .append(letter);
-
-                String currentName = newString
-                        .append(ChatColor.WHITE).append(rest)
-                        .toString();
-
-                this.previous.add(newString.toString());
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorState++;
-                updateDisplayName(contents, currentName);
+            void finish() {
+                inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
             }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorState < currentFrames.length) return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-                this.previous.clear();
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the frames and the display name, and then it loops through the frames and the display name, and then it
-     * updates the display name with the current frame and the current letter
-     */
-    private void animateWordByWord() {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-            final List<String> framesCopy = frames;
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-            String currentName = "";
-
-            @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-                boolean addColor = !letter.equals(" ");
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                this.currentName = this.currentName + itemColor.getColor()
-                        + (itemColor.isBold() ? "§l" : "")
-                        + (itemColor.isUnderline() ? "§n" : "")
-                        + (itemColor.isItalic() ? "§o" : "")
-                        + (itemColor.isObfuscated() ? "§k" : "")
-                        + (itemColor.isStrikeThrough() ? "§m" : "")
-                        + letter;
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorState++;
-                updateDisplayName(contents, this.currentName);
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-                if (this.colorState < currentFrames.length) return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-                this.currentName = "";
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
+        }.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period);
     }
 
     /**
-     * "Update the display name of the item in the slot to the current name."
-     * <p>
-     * The first parameter is the `InventoryContents` object, which is used to update the item in the slot. The second
-     * parameter is the current name of the item
+     * Compiles every frame of the animation into the ItemStack that is shown on that tick.
      *
-     * @param contents    The InventoryContents object that contains all the items in the inventory.
-     * @param currentName The current name of the item.
+     * @return The compiled frames.
      */
-    private void updateDisplayName(@NotNull InventoryContents contents,
-                                   @NotNull String currentName) {
-        ItemStack itemStack = new ItemStack(intelligentItem.getItemStack());
-
-        ItemMeta itemMeta = itemStack.getItemMeta();
-        itemMeta.setDisplayName(currentName);
-        itemStack.setItemMeta(itemMeta);
-
-        contents.update(slot, itemStack);
+    private @NotNull FrameTable<ItemStack> compileFrames() {
+        String fixedDisplayName = ChatColor.stripColor(this.displayName);
+        ItemStack baseItemStack = this.intelligentItem.getItemStack();
+
+        return FrameTable.compile(fixedDisplayName, this.frames, this.frameColor, this.type, this.loop)
+                .map(currentName -> {
+                    ItemStack itemStack = new ItemStack(baseItemStack);
+
+                    ItemMeta itemMeta = itemStack.getItemMeta();
+                    itemMeta.setDisplayName(currentName);
+                    itemStack.setItemMeta(itemMeta);
+                    return itemStack;
+                });
     }
 
     /**
@@ -391,7 +140,7 @@ public class IntelligentItemNameAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull BukkitTask getTask() {
+    public @NotNull AnimationTask getTask() {
         return this.task;
     }
 
@@ -680,6 +429,9 @@ public class IntelligentItemNameAnimator {
             animator.identifier = this.identifier;
             animator.contents = contents;
             animator.inventory = contents.pagination().inventory();
+            animator.frameTable = this.preset != null && this.preset.frameTable != null
+                    ? this.preset.frameTable
+                    : animator.compileFrames();
             return animator;
         }
     }
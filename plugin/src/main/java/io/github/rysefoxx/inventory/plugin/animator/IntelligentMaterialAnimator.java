@@ -32,11 +32,9 @@ import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -59,7 +57,7 @@ public class IntelligentMaterialAnimator {
     private int period = 20;
     private int delay = 0;
     private int slot = -1;
-    private BukkitTask task;
+    private AnimationTask task;
     private boolean loop;
     private RyseInventory inventory;
     private IntelligentItem intelligentItem;
@@ -86,7 +84,7 @@ public class IntelligentMaterialAnimator {
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || !Bukkit.getScheduler().isQueued(this.task.getTaskId()))
+        if (this.task == null || !this.task.isScheduled())
             return false;
 
         this.task.cancel();
@@ -99,7 +97,7 @@ public class IntelligentMaterialAnimator {
     private void animateItem() {
         int finalLength = getFrameLength();
 
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
+        this.task = new AnimationTask() {
             final List<String> framesCopy = frames;
             final ItemStack itemStack = new ItemStack(intelligentItem.getItemStack());
             int materialState = 0;
@@ -160,7 +158,7 @@ public class IntelligentMaterialAnimator {
                 if (this.currentFrameIndex + 1 >= this.framesCopy.size())
                     this.currentFrameIndex = 0;
             }
-        }, this.delay, this.period);
+        }.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period);
     }
 
     /**
@@ -169,7 +167,7 @@ public class IntelligentMaterialAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull BukkitTask getTask() {
+    public @NotNull AnimationTask getTask() {
         return this.task;
     }
 
@@ -34,11 +34,9 @@ import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
 import io.github.rysefoxx.inventory.plugin.util.VersionUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -64,11 +62,12 @@ public class IntelligentTitleAnimator {
     private IntelligentItemAnimatorType type = IntelligentItemAnimatorType.WORD_BY_WORD;
     private int period = 20;
     private int delay = 0;
-    private BukkitTask task;
+    private AnimationTask task;
     private boolean loop;
     private String title;
     private RyseInventory inventory;
     private Object identifier;
+    private FrameTable<String> frameTable;
 
     @Contract("_ -> new")
     public static @NotNull Builder builder(@NotNull Plugin plugin) {
@@ -91,7 +90,7 @@ public class IntelligentTitleAnimator {
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || !Bukkit.getScheduler().isQueued(this.task.getTaskId()))
+        if (this.task == null || !this.task.isScheduled())
             return false;
 
         this.task.cancel();
@@ -99,301 +98,38 @@ public class IntelligentTitleAnimator {
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
-     *
-     * @param player The player to animate the item for.
-     */
-    private void animateByType(@NotNull Player player) {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord(player);
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord(player);
-            return;
-        }
-        if (type == IntelligentItemAnimatorType.FLASH)
-            animateWithFlash(player);
-    }
-
-    /**
-     * It takes the frames and the title, and then it loops through the frames and the title, and then it updates the title
-     * with the current frame and the current letter
+     * Plays the precompiled frames of the title.
      *
      * @param player The player to animate the title for.
      */
-    private void animateWithFlash(@NotNull Player player) {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(title).toCharArray();
-            final List<String> framesCopy = frames;
-            final String fixedTitle = ChatColor.stripColor(title);
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-
+    private void animateByType(@NotNull Player player) {
+        this.task = new FrameAnimationTask<String>(this.frameTable) {
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String currentTitle =
-                        itemColor.getColor()
-                                + (itemColor.isBold() ? "§l" : "")
-                                + (itemColor.isUnderline() ? "§n" : "")
-                                + (itemColor.isItalic() ? "§o" : "")
-                                + (itemColor.isObfuscated() ? "§k" : "")
-                                + (itemColor.isStrikeThrough() ? "§m" : "")
-                                + fixedTitle;
-
-                this.colorState++;
-                this.subStringIndex++;
-                inventory.updateTitle(player, currentTitle);
+            void render(@NotNull String frame) {
+                inventory.updateTitle(player, frame);
             }
 
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorState < currentFrames.length)
-                    return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the title, splits it into letters, and then adds the colors from the frames to the letters
-     *
-     * @param player The player to animate the title for.
-     */
-    private void animateByFullWord(@NotNull Player player) {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(title).toCharArray();
-            final List<String> framesCopy = frames;
-            final List<String> previous = new ArrayList<>();
-            final String currentTitleFixed = Objects.requireNonNull(ChatColor.stripColor(title));
-
-            int colorIndex = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-            String currentTitle = ChatColor.stripColor(title);
-
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-                char singleFrame = currentFrames[this.colorIndex];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-                String rest = this.currentTitleFixed.substring(this.subStringIndex + 1);
-                boolean addColor = !letter.equals(" ");
-
-                StringBuilder newString = buildTitleBasedOnPreviousTitle(itemColor, letter);
-
-                this.currentTitle = newString
-                        .append(ChatColor.WHITE).append(rest)
-                        .toString();
-
-                this.previous.add(newString.toString());
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorIndex++;
-                inventory.updateTitle(player, this.currentTitle);
+            void finish() {
+                inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
             }
-
-            @NotNull
-            private StringBuilder buildTitleBasedOnPreviousTitle(@NotNull IntelligentItemColor itemColor, @NotNull String letter) {
-                StringBuilder newString = new StringBuilder();
-
-                if (this.subStringIndex != 0)
-                    this.previous.forEach(newString::append);
-
-                newString
-                        .append(itemColor.getColor())
-                        .append(itemColor.isBold() ? "§l" : "")
-                        .append(itemColor.isUnderline() ? "§n" : "")
-                        .append(itemColor.isItalic() ? "§o" : "")
-                        .append(itemColor.isObfuscated() ? "§k" : "")
-                        .append(itemColor.isStrikeThrough() ? "§m" : "")
-                        .append(letter);
-                return newString;
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorIndex < currentFrames.length)
-                    return currentFrames;
-
-                this.colorIndex = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorIndex = 0;
-                this.subStringIndex = 0;
-                this.previous.clear();
-                this.currentTitle = title;
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
+        }.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period);
     }
 
     /**
-     * It takes the title, splits it into letters, and then adds the colors from the frames to the letters
+     * Compiles every frame of the animation into the title that is shown on that tick.
+     * <p>
+     * Versions below 1.13 do not support colored titles, so the title is only written letter by letter.
      *
-     * @param player The player to animate the title for.
+     * @return The compiled frames.
      */
-    private void animateWordByWord(@NotNull Player player) {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(title).toCharArray();
-            final List<String> framesCopy = frames;
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-            String currentTitle = "";
-
-            @Override
-            public void run() {
-                resetWhenFrameFinished();
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-
-                if (VersionUtils.isBelowAnd13()) {
-                    this.currentTitle = this.currentTitle + letter;
-
-                    this.subStringIndex++;
-                    inventory.updateTitle(player, this.currentTitle);
-                    return;
-                }
+    private @NotNull FrameTable<String> compileFrames() {
+        String fixedTitle = Objects.requireNonNull(ChatColor.stripColor(this.title));
 
-                if (cancelIfListIsEmpty()) return;
+        if (VersionUtils.isBelowAnd13() && this.type == IntelligentItemAnimatorType.WORD_BY_WORD)
+            return FrameTable.compilePlain(fixedTitle);
 
-                char[] currentFrames = updateFramesWhenRequired();
-                boolean addColor = !letter.equals(" ");
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                appendLetterToTitle(letter, itemColor);
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorState++;
-                inventory.updateTitle(player, this.currentTitle);
-            }
-
-            private void appendLetterToTitle(@NotNull String letter, @NotNull IntelligentItemColor itemColor) {
-                this.currentTitle = this.currentTitle
-                        + (itemColor.isBold() ? "§l" : "")
-                        + (itemColor.isUnderline() ? "§n" : "")
-                        + (itemColor.isItalic() ? "§o" : "")
-                        + (itemColor.isObfuscated() ? "§k" : "")
-                        + (itemColor.isStrikeThrough() ? "§m" : "")
-                        + itemColor.getColor()
-                        + letter;
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorState < currentFrames.length)
-                    return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-                this.currentTitle = "";
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
+        return FrameTable.compile(fixedTitle, this.frames, this.frameColor, this.type, this.loop);
     }
 
     /**
@@ -402,7 +138,7 @@ public class IntelligentTitleAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull BukkitTask getTask() {
+    public @NotNull AnimationTask getTask() {
         return this.task;
     }
 
@@ -629,6 +365,9 @@ public class IntelligentTitleAnimator {
             animator.identifier = this.identifier;
             animator.inventory = contents.pagination().inventory();
             animator.title = contents.pagination().inventory().getTitle();
+            animator.frameTable = this.preset != null && this.preset.frameTable != null && Objects.equals(this.preset.title, animator.title)
+                    ? this.preset.frameTable
+                    : animator.compileFrames();
             return animator;
         }
 
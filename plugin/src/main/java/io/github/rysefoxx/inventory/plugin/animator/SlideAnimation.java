@@ -35,8 +35,6 @@ import io.github.rysefoxx.inventory.plugin.util.SlotUtils;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.*;
 
 import javax.annotation.Nonnegative;
@@ -49,7 +47,7 @@ import java.util.*;
 public class SlideAnimation {
 
     private static Plugin plugin;
-    private final List<BukkitTask> task = new ArrayList<>();
+    private final List<AnimationTask> task = new ArrayList<>();
     private final HashMap<Integer, Integer> timeHandler = new HashMap<>();
     private List<Integer> from = new ArrayList<>();
     private List<Integer> to = new ArrayList<>();
@@ -124,7 +122,7 @@ public class SlideAnimation {
 
             int finalI = i;
 
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask animationTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean isTopLeft = direction == AnimatorDirection.DIAGONAL_TOP_LEFT;
@@ -162,8 +160,8 @@ public class SlideAnimation {
                     }
                     this.fromIndex -= 8;
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
-            this.task.add(bukkitTask);
+            }.runTaskTimer(animationEngine(), this.delay, this.period);
+            this.task.add(animationTask);
         }
     }
 
@@ -182,7 +180,7 @@ public class SlideAnimation {
 
             int finalI = i;
 
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask animationTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean isTopRight = direction == AnimatorDirection.DIAGONAL_TOP_RIGHT;
@@ -219,8 +217,8 @@ public class SlideAnimation {
                     }
                     this.fromIndex -= 10;
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
-            this.task.add(bukkitTask);
+            }.runTaskTimer(animationEngine(), this.delay, this.period);
+            this.task.add(animationTask);
         }
     }
 
@@ -238,7 +236,7 @@ public class SlideAnimation {
             }
 
             int finalI = i;
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask animationTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean leftToRight = direction == AnimatorDirection.HORIZONTAL_LEFT_RIGHT;
@@ -276,8 +274,8 @@ public class SlideAnimation {
                     this.fromIndex--;
 
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
-            this.task.add(bukkitTask);
+            }.runTaskTimer(animationEngine(), this.delay, this.period);
+            this.task.add(animationTask);
         }
     }
 
@@ -296,7 +294,7 @@ public class SlideAnimation {
 
             int finalI = i;
 
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask animationTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean upToDown = direction == AnimatorDirection.VERTICAL_UP_DOWN;
@@ -335,8 +333,8 @@ public class SlideAnimation {
                     this.fromIndex -= 9;
 
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
-            this.task.add(bukkitTask);
+            }.runTaskTimer(animationEngine(), this.delay, this.period);
+            this.task.add(animationTask);
         }
     }
 
@@ -385,6 +383,13 @@ public class SlideAnimation {
 
     }
 
+    /**
+     * @return The animation engine of the inventory manager that owns the animated inventory.
+     */
+    private @NotNull AnimationEngine animationEngine() {
+        return this.contents.pagination().inventory().getManager().getAnimationEngine();
+    }
+
     /**
      * Returns true if the click event is blocked.
      *
@@ -398,12 +403,12 @@ public class SlideAnimation {
     /**
      * It returns a list of tasks that are currently running
      *
-     * @return A list of BukkitTasks
+     * @return A list of AnimationTasks
      * @throws UnsupportedOperationException If list gets modified
      */
     @ApiStatus.Internal
     @Unmodifiable
-    public @NotNull List<BukkitTask> getTasks() throws UnsupportedOperationException {
+    public @NotNull List<AnimationTask> getTasks() throws UnsupportedOperationException {
         return Collections.unmodifiableList(this.task);
     }
 
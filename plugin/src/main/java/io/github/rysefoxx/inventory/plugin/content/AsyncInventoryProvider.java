@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.content;
+
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A provider whose contents are loaded off the main thread. The inventory is opened right away with the items of
+ * {@link #init(Player, InventoryContents)} and the title holder, the loaded contents are applied on the main thread as
+ * soon as they are ready. Loading is cancelled if the player closes the inventory or opens another one first.
+ *
+ * @param <T> The model that is loaded for the player.
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+public interface AsyncInventoryProvider<T> extends InventoryProvider {
+
+    /**
+     * @param player   The player
+     * @param executor The executor of the {@link InventoryManager}, see {@link InventoryManager#setProviderExecutor(Executor)}
+     * @return The model, loaded off the main thread.
+     * This method is called 1x on the main thread when the inventory is opened. It must not block.
+     */
+    @NotNull
+    CompletableFuture<T> load(@NotNull Player player, @NotNull Executor executor);
+
+    /**
+     * @param player   The player
+     * @param contents The contents
+     * @param model    The loaded model
+     *                 This method is called 1x on the main thread when the model has been loaded. The pagination is
+     *                 distributed and rendered afterwards.
+     */
+    void apply(@NotNull Player player, @NotNull InventoryContents contents, @NotNull T model);
+
+    /**
+     * @param player    The player
+     * @param contents  The contents
+     * @param throwable The reason
+     *                  This method is called on the main thread if the model could not be loaded.
+     */
+    default void failed(@NotNull Player player, @NotNull InventoryContents contents, @NotNull Throwable throwable) {
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.content;
+
+import io.github.rysefoxx.inventory.plugin.pagination.Pagination;
+import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import io.github.rysefoxx.inventory.plugin.util.PlaceHolderConstants;
+import io.github.rysefoxx.inventory.plugin.util.SlotUtils;
+import io.github.rysefoxx.inventory.plugin.util.StringConstants;
+import io.github.rysefoxx.inventory.plugin.util.Utils;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.List;
+
+/**
+ * Collects changes to the current page of an {@link InventoryContents} and applies them together. Every slot is
+ * validated when it is written to the batch, so nothing is applied if a write fails.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @see InventoryContents#batch(java.util.function.Consumer)
+ * @since 10/16/2026
+ */
+public final class ContentBatch {
+
+    private static final int MAX_SLOTS = 54;
+
+    private final InventoryContents contents;
+    private final RyseInventory inventory;
+    private final Player player;
+    private final int size;
+
+    private final IntelligentItem[] items = new IntelligentItem[MAX_SLOTS];
+    private long written;
+
+    ContentBatch(@NotNull InventoryContents contents, @NotNull RyseInventory inventory, @NotNull Player player) {
+        this.contents = contents;
+        this.inventory = inventory;
+        this.player = player;
+        this.size = inventory.size(contents);
+    }
+
+    /**
+     * Sets an item in the batch.
+     *
+     * @param slot The slot
+     * @param item The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if slot greater than 53 or slot greater than inventory size
+     */
+    public @NotNull ContentBatch set(@Nonnegative int slot, @NotNull IntelligentItem item) throws IllegalArgumentException {
+        write(slot, item);
+        return this;
+    }
+
+    /**
+     * Sets an item in the batch.
+     *
+     * @param slot      The slot
+     * @param itemStack The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if slot greater than 53 or slot greater than inventory size
+     */
+    public @NotNull ContentBatch set(@Nonnegative int slot, @NotNull ItemStack itemStack) throws IllegalArgumentException {
+        return set(slot, IntelligentItem.empty(itemStack));
+    }
+
+    /**
+     * Sets an item in the batch.
+     *
+     * @param row    The row
+     * @param column The column
+     * @param item   The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if slot greater than 53 or slot greater than inventory size
+     */
+    public @NotNull ContentBatch set(@Nonnegative int row,
+                                     @Nonnegative int column,
+                                     @NotNull IntelligentItem item) throws IllegalArgumentException {
+        return set(SlotUtils.toSlot(row, column), item);
+    }
+
+    /**
+     * Sets the same item in several slots.
+     *
+     * @param slots The slots
+     * @param item  The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if a slot is greater than 53 or greater than the inventory size
+     */
+    public @NotNull ContentBatch set(@NotNull List<Integer> slots, @NotNull IntelligentItem item) throws IllegalArgumentException {
+        for (int slot : slots)
+            write(slot, item);
+        return this;
+    }
+
+    /**
+     * Sets the same item in several slots.
+     *
+     * @param item  The item to be placed.
+     * @param slots The slots
+     * @return The batch
+     * @throws IllegalArgumentException if a slot is greater than 53 or greater than the inventory size
+     */
+    public @NotNull ContentBatch set(@NotNull IntelligentItem item, int @NotNull ... slots) throws IllegalArgumentException {
+        for (int slot : slots)
+            write(slot, item);
+        return this;
+    }
+
+    /**
+     * Removes the item of a slot.
+     *
+     * @param slot The slot
+     * @return The batch
+     * @throws IllegalArgumentException if slot greater than 53 or slot greater than inventory size
+     */
+    public @NotNull ContentBatch remove(@Nonnegative int slot) throws IllegalArgumentException {
+        write(slot, null);
+        return this;
+    }
+
+    /**
+     * Fills the whole inventory.
+     *
+     * @param item The item to be placed.
+     * @return The batch
+     */
+    public @NotNull ContentBatch fill(@NotNull IntelligentItem item) {
+        for (int slot = 0; slot < this.size; slot++)
+            write(slot, item);
+        return this;
+    }
+
+    /**
+     * Starting at the slot, the row is completely filled from left to right.
+     *
+     * @param slot Where to start placing the items.
+     * @param item The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if slot greater than 53 or slot greater than inventory size
+     */
+    public @NotNull ContentBatch fillRow(@Nonnegative int slot, @NotNull IntelligentItem item) throws IllegalArgumentException {
+        checkSlot(slot);
+
+        int rightBorder = this.contents.findRightBorder(slot);
+        for (int i = slot; i <= rightBorder; i++)
+            write(i, item);
+        return this;
+    }
+
+    /**
+     * Starting at the slot, all the way down the item is placed in the same column.
+     *
+     * @param slot Where to start placing the items.
+     * @param item The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if slot greater than 53 or slot greater than inventory size
+     */
+    public @NotNull ContentBatch fillColumn(@Nonnegative int slot, @NotNull IntelligentItem item) throws IllegalArgumentException {
+        checkSlot(slot);
+
+        for (int i = slot; i < this.size; i += 9)
+            write(i, item);
+        return this;
+    }
+
+    /**
+     * Fills the border of the inventory.
+     *
+     * @param item The item to be placed.
+     * @return The batch
+     */
+    public @NotNull ContentBatch fillBorders(@NotNull IntelligentItem item) {
+        int rows = (this.size + 1) / 9;
+
+        for (int i = 0; i < rows * 9; i++) {
+            if ((i <= 8) || (i >= (rows * 9) - 9)
+                    || i == 9 || i == 18
+                    || i == 27 || i == 36
+                    || i == 17 || i == 26
+                    || i == 35 || i == 44)
+                write(i, item);
+        }
+        return this;
+    }
+
+    /**
+     * Fills every slot from areaStart to areaStop.
+     *
+     * @param areaStart The start of the area.
+     * @param areaStop  The end of the area.
+     * @param item      The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if a slot of the area is greater than 53 or greater than the inventory size
+     */
+    public @NotNull ContentBatch fillArea(@Nonnegative int areaStart,
+                                          @Nonnegative int areaStop,
+                                          @NotNull IntelligentItem item) throws IllegalArgumentException {
+        for (int i = areaStart; i <= areaStop; i++)
+            write(i, item);
+        return this;
+    }
+
+    /**
+     * Fills the inventory diagonally based on the slot.
+     *
+     * @param startSlot The slot where the diagonal should start.
+     * @param item      The item to be placed.
+     * @return The batch
+     * @throws IllegalArgumentException if slot greater than 53 or slot greater than inventory size
+     */
+    public @NotNull ContentBatch fillDiagonal(@Nonnegative int startSlot, @NotNull IntelligentItem item) throws IllegalArgumentException {
+        checkSlot(startSlot);
+
+        for (int i = startSlot; i < this.size; i += 10)
+            write(i, item);
+        return this;
+    }
+
+    /**
+     * Writes all changes of the batch to the pagination. If render is true and the player is currently shown these
+     * contents, the changed slots are also queued for the inventory of the player, which writes them once at the end
+     * of the tick.
+     *
+     * @param render Whether the changed slots should be rendered.
+     */
+    void commit(boolean render) {
+        Pagination pagination = this.contents.pagination();
+
+        for (long slots = this.written; slots != 0; slots &= slots - 1) {
+            int slot = Long.numberOfTrailingZeros(slots);
+            IntelligentItem item = this.items[slot];
+
+            if (item == null)
+                pagination.remove(slot);
+            else
+                pagination.setItem(slot, item);
+        }
+
+        if (!render || this.inventory.getManager().getContents(this.player.getUniqueId()).orElse(null) != this.contents)
+            return;
+
+        Inventory view = this.inventory.inventoryBasedOnOption(this.player.getUniqueId()).orElse(null);
+        if (view == null)
+            return;
+
+        for (long slots = this.written; slots != 0; slots &= slots - 1) {
+            int slot = Long.numberOfTrailingZeros(slots);
+            if (slot >= view.getSize()) continue;
+
+            IntelligentItem item = this.items[slot];
+            if (item != null && !item.isCanSee()) {
+                item.getError().cantSee(this.player, item);
+                item = null;
+            }
+
+            this.inventory.render(view, slot, item == null ? null : item.getItemStack());
+        }
+    }
+
+    private void write(int slot, @Nullable IntelligentItem item) throws IllegalArgumentException {
+        checkSlot(slot);
+
+        this.items[slot] = item;
+        this.written |= 1L << slot;
+    }
+
+    private void checkSlot(int slot) throws IllegalArgumentException {
+        if (slot < 0 || slot > 53)
+            throw new IllegalArgumentException(StringConstants.INVALID_SLOT);
+
+        if (slot > this.size)
+            throw new IllegalArgumentException(Utils.replace(PlaceHolderConstants.INVALID_SLOT, "%temp%", this.size));
+    }
+}
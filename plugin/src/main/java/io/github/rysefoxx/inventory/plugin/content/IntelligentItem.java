@@ -59,7 +59,6 @@ public class IntelligentItem {
     private int delay;
 
     private @Nullable Object id;
-    private @Nullable BukkitTask delayTask;
 
     //For serialization
     @Contract(pure = true)
@@ -356,8 +355,23 @@ public class IntelligentItem {
         return Objects.hash(itemStack, error, defaultConsumer, canClick, canSee, advanced, id);
     }
 
+    /**
+     * @return Always null.
+     * @deprecated Delayed clicks are scheduled by the {@link InventoryManager} and no longer keep a task per item.
+     */
+    @Deprecated
+    public @Nullable BukkitTask getDelayTask() {
+        return null;
+    }
+
+    /**
+     * Does nothing.
+     *
+     * @param delayTask Ignored.
+     * @deprecated Delayed clicks are scheduled by the {@link InventoryManager} and no longer keep a task per item.
+     */
+    @Deprecated
     @ApiStatus.Internal
     public void setDelayTask(@Nullable BukkitTask delayTask) {
-        this.delayTask = delayTask;
     }
 }
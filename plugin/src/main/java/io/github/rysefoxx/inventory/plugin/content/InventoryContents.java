@@ -63,8 +63,13 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 /**
+ * Items that are set or updated while the player is viewing these contents are written to the inventory on the next
+ * tick, together with all other changes of the same tick. Titles are shown one or two ticks after they are changed,
+ * see {@link RyseInventory#updateTitle(Player, String)}.
+ *
  * @author Rysefoxx | Rysefoxx#6772
  * @since 2/17/2022
  */
@@ -710,7 +715,7 @@ public class InventoryContents {
             if (!inventoryOptional.isPresent())
                 continue;
 
-            inventoryOptional.get().setItem(slot, null);
+            this.inventory.render(inventoryOptional.get(), slot, null);
             success++;
         }
         return success == slots.length;
@@ -747,7 +752,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (!inventoryOptional.isPresent()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.render(inventoryOptional.get(), i, null);
             optional.get().clearConsumer();
             break;
         }
@@ -771,7 +776,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (!inventoryOptional.isPresent()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.render(inventoryOptional.get(), i, null);
             optional.get().clearConsumer();
             break;
         }
@@ -803,12 +808,12 @@ public class InventoryContents {
             if (itemStack.getAmount() - amount < 1) {
                 removeSlot(i);
                 if (!inventoryOptional.isPresent()) continue;
-                inventoryOptional.get().setItem(i, null);
+                this.inventory.render(inventoryOptional.get(), i, null);
                 continue;
             }
             if (!inventoryOptional.isPresent()) continue;
             itemStack.setAmount(itemStack.getAmount() - amount);
-            inventoryOptional.get().setItem(i, itemStack);
+            this.inventory.render(inventoryOptional.get(), i, itemStack);
             break;
         }
     }
@@ -831,7 +836,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (!inventoryOptional.isPresent()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.render(inventoryOptional.get(), i, null);
             optional.get().clearConsumer();
         }
     }
@@ -860,13 +865,13 @@ public class InventoryContents {
             if (itemStack.getAmount() - amount < 1) {
                 removeSlot(i);
                 if (!inventoryOptional.isPresent()) continue;
-                inventoryOptional.get().setItem(i, null);
+                this.inventory.render(inventoryOptional.get(), i, null);
                 optional.get().clearConsumer();
                 continue;
             }
             if (!inventoryOptional.isPresent()) continue;
             itemStack.setAmount(itemStack.getAmount() - amount);
-            inventoryOptional.get().setItem(i, itemStack);
+            this.inventory.render(inventoryOptional.get(), i, itemStack);
         }
     }
 
@@ -885,7 +890,7 @@ public class InventoryContents {
 
             Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
             if (!inventoryOptional.isPresent()) break;
-            inventoryOptional.get().setItem(i, null);
+            this.inventory.render(inventoryOptional.get(), i, null);
             optional.get().clearConsumer();
             break;
         }
@@ -912,13 +917,13 @@ public class InventoryContents {
             if (itemStack.getAmount() - amount < 1) {
                 removeSlot(i);
                 if (!inventoryOptional.isPresent()) break;
-                inventoryOptional.get().setItem(i, null);
+                this.inventory.render(inventoryOptional.get(), i, null);
                 optional.get().clearConsumer();
                 break;
             }
             if (!inventoryOptional.isPresent()) break;
             itemStack.setAmount(itemStack.getAmount() - amount);
-            inventoryOptional.get().setItem(i, itemStack);
+            this.inventory.render(inventoryOptional.get(), i, itemStack);
             break;
         }
     }
@@ -937,7 +942,8 @@ public class InventoryContents {
     }
 
     /**
-     * With this method you can update the inventory title.
+     * With this method you can update the inventory title. The player sees the new title one or two ticks later, see
+     * {@link RyseInventory#updateTitle(Player, String)}.
      *
      * @param newTitle The new title
      */
@@ -1017,17 +1023,7 @@ public class InventoryContents {
      * @param item The ItemStack which should represent the border
      */
     public void fillBorders(@NotNull IntelligentItem item) {
-        int size = this.inventory.size(this);
-        int rows = (size + 1) / 9;
-
-        for (int i = 0; i < rows * 9; i++) {
-            if ((i <= 8) || (i >= (rows * 9) - 9)
-                    || i == 9 || i == 18
-                    || i == 27 || i == 36
-                    || i == 17 || i == 26
-                    || i == 35 || i == 44)
-                set(i, item);
-        }
+        stage(batch -> batch.fillBorders(item));
     }
 
     /**
@@ -1569,28 +1565,54 @@ public class InventoryContents {
      * @return The first slot that is empty.
      */
     public @NotNull Optional<Integer> firstEmpty() {
-        for (int i = 0; i < this.inventory.size(this); i++) {
-            Optional<IntelligentItem> item = get(i);
+        long empty = emptySlots(this.pagination.page() - 1);
+        if (empty == 0)
+            return Optional.empty();
 
-            if (item.isPresent()) continue;
-            return Optional.of(i);
-        }
-        return Optional.empty();
+        return Optional.of(Long.numberOfTrailingZeros(empty));
     }
 
     /**
      * @return The last slot that is empty.
      */
     public @NotNull Optional<Integer> lastEmpty() {
-        int nextSlot = -1;
+        long empty = emptySlots(this.pagination.page() - 1);
+        if (empty == 0)
+            return Optional.of(-1);
 
-        for (int i = 0; i < this.inventory.size(this); i++) {
-            Optional<IntelligentItem> item = get(i);
+        return Optional.of(63 - Long.numberOfLeadingZeros(empty));
+    }
+
+    /**
+     * @param page The page to look up.
+     * @return A bitmask in which bit n is set if slot n of the page is within the inventory and shows no item.
+     */
+    private long emptySlots(@Nonnegative int page) {
+        int size = this.inventory.size(this);
+        long slots = size >= Long.SIZE ? -1L : (1L << size) - 1;
+
+        return slots & ~this.pagination.getFilledSlots(page);
+    }
+
+    /**
+     * Places the items in the free slots of the current page in a single pass over its occupancy.
+     *
+     * @param amount The amount of items.
+     * @param items  The item for each index.
+     * @return true if all items were added, false otherwise.
+     */
+    private boolean addAll(@Nonnegative int amount, @NotNull IntFunction<IntelligentItem> items) {
+        long empty = emptySlots(this.pagination.page() - 1);
+        int added = 0;
+
+        while (added < amount && empty != 0) {
+            int slot = Long.numberOfTrailingZeros(empty);
+            empty &= empty - 1;
 
-            if (item.isPresent()) continue;
-            nextSlot = i;
+            this.pagination.setItem(slot, items.apply(added++));
         }
-        return Optional.of(nextSlot);
+
+        return added == amount;
     }
 
     /**
@@ -1642,12 +1664,7 @@ public class InventoryContents {
      * @return true if the items were added, false otherwise.
      */
     public boolean add(IntelligentItem @NotNull ... items) {
-        int success = 0;
-
-        for (IntelligentItem item : items)
-            if (add(item)) success++;
-
-        return success == items.length;
+        return addAll(items.length, index -> items[index]);
     }
 
     /**
@@ -1667,12 +1684,7 @@ public class InventoryContents {
      * @return true if the items were added, false otherwise.
      */
     public boolean add(ItemStack @NotNull ... items) {
-        int sucess = 0;
-
-        for (ItemStack item : items)
-            if (add(IntelligentItem.empty(item))) sucess++;
-
-        return sucess == items.length;
+        return addAll(items.length, index -> IntelligentItem.empty(items[index]));
     }
 
     /**
@@ -1698,16 +1710,9 @@ public class InventoryContents {
      */
     public boolean add(@NotNull IntelligentType type,
                        ItemStack @NotNull ... items) {
-        int success = 0;
-
-        for (ItemStack item : items) {
-            if (add(type == IntelligentType.EMPTY
-                    ? IntelligentItem.empty(item)
-                    : IntelligentItem.ignored(item)))
-                success++;
-        }
-
-        return success == items.length;
+        return addAll(items.length, index -> type == IntelligentType.EMPTY
+                ? IntelligentItem.empty(items[index])
+                : IntelligentItem.ignored(items[index]));
     }
 
     /**
@@ -1870,15 +1875,7 @@ public class InventoryContents {
      */
     public void fillRow(@Nonnegative int slot,
                         @NotNull IntelligentItem item) throws IllegalArgumentException {
-        if (slot > 53)
-            throw new IllegalArgumentException(StringConstants.INVALID_SLOT);
-
-        if (slot > this.inventory.size(this))
-            throw new IllegalArgumentException(Utils.replace(PlaceHolderConstants.INVALID_SLOT, "%temp%", this.inventory.size(this)));
-
-        int difference = slot + (findRightBorder(slot) - slot);
-        for (int i = slot; i < difference + 1; i++)
-            set(i, item);
+        stage(batch -> batch.fillRow(slot, item));
     }
 
     /**
@@ -2006,14 +2003,7 @@ public class InventoryContents {
      */
     public void fillColumn(@Nonnegative int slot,
                            @NotNull IntelligentItem item) throws IllegalArgumentException {
-        if (slot > 53)
-            throw new IllegalArgumentException(StringConstants.INVALID_SLOT);
-
-        if (slot > this.inventory.size(this))
-            throw new IllegalArgumentException(Utils.replace(PlaceHolderConstants.INVALID_SLOT, "%temp%", this.inventory.size(this)));
-
-        for (int i = slot; i < this.inventory.size(this); i += 9)
-            set(i, item);
+        stage(batch -> batch.fillColumn(slot, item));
     }
 
     /**
@@ -2194,10 +2184,8 @@ public class InventoryContents {
      */
     public void fillEmptyPage(@Nonnegative int page,
                               @NotNull IntelligentItem item) {
-        for (int i = 0; i < this.inventory.size(this); i++) {
-            if (getWithinPage(i, page).isPresent()) continue;
-            setWithinPage(i, page, item);
-        }
+        for (long empty = emptySlots(page); empty != 0; empty &= empty - 1)
+            setWithinPage(Long.numberOfTrailingZeros(empty), page, item);
     }
 
     /**
@@ -2284,8 +2272,7 @@ public class InventoryContents {
     public void fillArea(@Nonnegative int areaStart,
                          @Nonnegative int areaStop,
                          @NotNull IntelligentItem item) {
-        for (int i = areaStart; i <= areaStop; i++)
-            set(i, item);
+        stage(batch -> batch.fillArea(areaStart, areaStop, item));
     }
 
     /**
@@ -2324,10 +2311,8 @@ public class InventoryContents {
      * @param item The item to be placed.
      */
     public void fillEmpty(@NotNull IntelligentItem item) {
-        for (int i = 0; i < this.inventory.size(this); i++) {
-            if (get(i).isPresent()) continue;
-            set(i, item);
-        }
+        for (long empty = emptySlots(this.pagination.page() - 1); empty != 0; empty &= empty - 1)
+            set(Long.numberOfTrailingZeros(empty), item);
     }
 
     /**
@@ -2360,16 +2345,7 @@ public class InventoryContents {
      */
     public void fillDiagonal(@Nonnegative int startSlot,
                              @NotNull IntelligentItem item) throws IllegalArgumentException {
-        if (startSlot > 53)
-            throw new IllegalArgumentException(StringConstants.INVALID_SLOT);
-
-        int inventorySize = this.inventory.size(this);
-        if (startSlot > inventorySize)
-            throw new IllegalArgumentException(Utils.replace(PlaceHolderConstants.INVALID_SLOT, "%temp%", inventorySize));
-
-        for (int i = startSlot; i < inventorySize; i += 10) {
-            set(i, item);
-        }
+        stage(batch -> batch.fillDiagonal(startSlot, item));
     }
 
     /**
@@ -2404,8 +2380,7 @@ public class InventoryContents {
      * @param item The item with which the inventory should be filled.
      */
     public void fill(@NotNull IntelligentItem item) {
-        for (int i = 0; i < this.inventory.size(this); i++)
-            set(i, item);
+        stage(batch -> batch.fill(item));
     }
 
     /**
@@ -2514,7 +2489,7 @@ public class InventoryContents {
      */
     public void set(@NotNull List<Integer> slots,
                     @NotNull IntelligentItem item) {
-        slots.forEach(slot -> set(slot, item));
+        stage(batch -> batch.set(slots, item));
     }
 
     /**
@@ -2524,9 +2499,33 @@ public class InventoryContents {
      * @param slots Where should the item be placed everywhere?
      */
     public void set(@NotNull IntelligentItem item, int... slots) {
-        for (int slot : slots) {
-            set(slot, item);
-        }
+        stage(batch -> batch.set(item, slots));
+    }
+
+    /**
+     * Applies several changes to the current page at once. The slots are validated while the changes are collected
+     * and nothing is applied if the consumer throws an exception. Afterwards, all changes are written to the
+     * pagination together and, if the player is currently viewing these contents, the changed slots are rendered in
+     * one update of the inventory.
+     *
+     * @param changes The changes to apply.
+     */
+    public void batch(@NotNull Consumer<ContentBatch> changes) {
+        ContentBatch batch = new ContentBatch(this, this.inventory, this.player);
+        changes.accept(batch);
+        batch.commit(true);
+    }
+
+    /**
+     * Collects the changes in a batch and writes them to the pagination without rendering them, like
+     * {@link #set(int, IntelligentItem)} does.
+     *
+     * @param changes The changes to apply.
+     */
+    private void stage(@NotNull Consumer<ContentBatch> changes) {
+        ContentBatch batch = new ContentBatch(this, this.inventory, this.player);
+        changes.accept(batch);
+        batch.commit(false);
     }
 
     /**
@@ -2686,7 +2685,7 @@ public class InventoryContents {
         if (!inventoryOptional.isPresent())
             return Optional.of(itemToAdd);
 
-        inventoryOptional.get().setItem(slot, itemToAdd.getItemStack());
+        this.inventory.render(inventoryOptional.get(), slot, itemToAdd.getItemStack());
         return Optional.of(itemToAdd);
     }
 
@@ -2721,7 +2720,7 @@ public class InventoryContents {
         if (!inventoryOptional.isPresent())
             return Optional.of(itemToSet);
 
-        inventoryOptional.get().setItem(slot, itemToSet.getItemStack());
+        this.inventory.render(inventoryOptional.get(), slot, itemToSet.getItemStack());
         return Optional.of(itemToSet);
     }
 
@@ -2838,7 +2837,8 @@ public class InventoryContents {
                                     @Nonnegative int index,
                                     @NotNull String line) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2846,7 +2846,7 @@ public class InventoryContents {
                 if (contents.updateLore(SlotUtils.toSlot(row, column), index, line)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -2897,7 +2897,8 @@ public class InventoryContents {
     public boolean updateLoreForAll(@Nonnegative int slot,
                                     @NotNull List<String> lore) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2905,7 +2906,7 @@ public class InventoryContents {
                 if (contents.updateLore(slot, lore)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -2966,7 +2967,8 @@ public class InventoryContents {
                                     @Nonnegative int index,
                                     @NotNull String line) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2974,7 +2976,7 @@ public class InventoryContents {
                 if (contents.updateLore(slot, index, line)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3020,7 +3022,8 @@ public class InventoryContents {
                                     @NotNull List<Integer> indexes,
                                     @NotNull List<String> lines) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3028,7 +3031,7 @@ public class InventoryContents {
                 if (contents.updateLore(slots, indexes, lines)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3081,7 +3084,7 @@ public class InventoryContents {
         set(slot, newItem);
 
         Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
-        inventoryOptional.ifPresent(savedInventory -> savedInventory.setItem(slot, newItem.getItemStack()));
+        inventoryOptional.ifPresent(savedInventory -> this.inventory.render(savedInventory, slot, newItem.getItemStack()));
         return true;
     }
 
@@ -3096,7 +3099,8 @@ public class InventoryContents {
     public boolean updateForAll(@Nonnegative int slot,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3104,7 +3108,7 @@ public class InventoryContents {
                 if (contents.update(slot, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3151,7 +3155,8 @@ public class InventoryContents {
     public boolean updateDisplayNameForAll(@Nonnegative int slot,
                                            @NotNull String displayName) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3159,7 +3164,7 @@ public class InventoryContents {
                 if (contents.updateDisplayName(slot, displayName)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3202,7 +3207,8 @@ public class InventoryContents {
     public void updateDisplayNameForAll(@Nonnegative int slot,
                                         @NotNull IntelligentItem item,
                                         @NotNull String displayName) throws IllegalArgumentException {
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3279,7 +3285,7 @@ public class InventoryContents {
         set(slot, newItem);
 
         Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
-        inventoryOptional.ifPresent(savedInventory -> savedInventory.setItem(slot, newItem.getItemStack()));
+        inventoryOptional.ifPresent(savedInventory -> this.inventory.render(savedInventory, slot, newItem.getItemStack()));
         return true;
     }
 
@@ -3294,7 +3300,8 @@ public class InventoryContents {
     public boolean updateForAll(@Nonnegative int slot,
                                 @NotNull IntelligentItem intelligentItem) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3302,7 +3309,7 @@ public class InventoryContents {
                 if (contents.update(slot, intelligentItem)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3333,7 +3340,8 @@ public class InventoryContents {
                                 @Nonnegative int column,
                                 @NotNull IntelligentItem intelligentItem) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3342,7 +3350,7 @@ public class InventoryContents {
                     updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3374,7 +3382,8 @@ public class InventoryContents {
     public boolean updateForAll(@NotNull List<Integer> slots,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3382,7 +3391,7 @@ public class InventoryContents {
                 if (contents.update(slots, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3413,7 +3422,8 @@ public class InventoryContents {
                                                @Nonnegative int column,
                                                @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3421,7 +3431,7 @@ public class InventoryContents {
                 if (contents.update(SlotUtils.toSlot(row, column), itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3450,7 +3460,8 @@ public class InventoryContents {
     public boolean updateViaCoordinationForAll(@NotNull Collection<ImmutablePair<Integer, Integer>> pairs,
                                                @NotNull ItemStack itemStack) {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3458,7 +3469,7 @@ public class InventoryContents {
                 if (contents.updateViaCoordination(pairs, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3491,8 +3502,8 @@ public class InventoryContents {
 
         Optional<Inventory> inventoryOptional = this.inventory.inventoryBasedOnOption(this.player.getUniqueId());
         inventoryOptional.ifPresent(savedInventory -> {
-            savedInventory.setItem(itemSlot, null);
-            savedInventory.setItem(newSlot, newItem.getItemStack());
+            this.inventory.render(savedInventory, itemSlot, null);
+            this.inventory.render(savedInventory, newSlot, newItem.getItemStack());
         });
         return true;
     }
@@ -3510,7 +3521,8 @@ public class InventoryContents {
                                 @Nonnegative int newSlot,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3518,7 +3530,7 @@ public class InventoryContents {
                 if (contents.update(itemSlot, newSlot, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3545,7 +3557,8 @@ public class InventoryContents {
     public boolean updatePositionForAll(@Nonnegative int itemSlot,
                                         @Nonnegative int newSlot) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        List<UUID> openedPlayers = this.inventory.getOpenedPlayers();
+        for (UUID openedPlayer : openedPlayers) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3553,7 +3566,7 @@ public class InventoryContents {
                 if (contents.updatePosition(itemSlot, newSlot)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == openedPlayers.size();
     }
 
     /**
@@ -3635,8 +3648,9 @@ public class InventoryContents {
      * @param page The page to clear
      */
     private void clear(@Nonnegative int page) {
-        for (int i = 0; i < this.pagination.getInventoryData().size(); i++) {
-            IntelligentItemData itemData = this.pagination.getInventoryData().get(i);
+        List<IntelligentItemData> inventoryData = this.pagination.getInventoryData();
+        for (int i = 0; i < inventoryData.size(); i++) {
+            IntelligentItemData itemData = inventoryData.get(i);
             if (itemData.getPage() != page) continue;
 
             int finalI = i;
@@ -3678,7 +3692,7 @@ public class InventoryContents {
         if (!inventoryOptional.isPresent())
             return false;
 
-        inventoryOptional.get().setItem(slot, intelligentItem.getItemStack());
+        this.inventory.render(inventoryOptional.get(), slot, intelligentItem.getItemStack());
         return true;
     }
 }
@@ -25,12 +25,19 @@
 
 package io.github.rysefoxx.inventory.plugin.pagination;
 
+import io.github.rysefoxx.inventory.plugin.animator.AnimationEngine;
 import io.github.rysefoxx.inventory.plugin.animator.SlideAnimation;
 import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.*;
 import io.github.rysefoxx.inventory.plugin.events.*;
 import io.github.rysefoxx.inventory.plugin.other.EventCreator;
+import io.github.rysefoxx.inventory.plugin.util.PacketDispatcher;
+import io.github.rysefoxx.inventory.plugin.util.PacketMetrics;
+import io.github.rysefoxx.inventory.plugin.util.ReflectionUtils;
+import io.github.rysefoxx.inventory.plugin.util.SlotUpdater;
+import io.github.rysefoxx.inventory.plugin.util.TitleUpdater;
+import io.github.rysefoxx.inventory.plugin.util.VersionUtils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -54,14 +61,18 @@ import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
@@ -71,18 +82,28 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 public class InventoryManager {
 
+    private static final long OPEN_COOLDOWN = 500;
+    private static final long MILLIS_PER_TICK = 50;
+
     private final Plugin plugin;
     @Getter(AccessLevel.PROTECTED)
     private boolean invoked = false;
 
-    private final Set<IntelligentItem> items = new HashSet<>();
-    private final List<RyseInventory> cachedInventories = new ArrayList<>();
-    private final HashMap<UUID, RyseInventory> inventories = new HashMap<>();
-    private final HashMap<UUID, InventoryContents> content = new HashMap<>();
-    private final HashMap<UUID, BukkitTask> updaterTask = new HashMap<>();
-    private final HashMap<UUID, List<RyseInventory>> lastInventories = new HashMap<>();
-    private final HashMap<UUID, Long> lastOpen = new HashMap<>();
-
+    private final Map<Object, List<IntelligentItem>> items = new HashMap<>();
+    private final Map<IntelligentItem, Object> itemIds = new IdentityHashMap<>();
+    private final Map<Object, RyseInventory> cachedInventories = new HashMap<>();
+    private final Map<Object, RyseInventory> openInventories = new HashMap<>();
+    private final HashMap<UUID, MenuSession> sessions = new HashMap<>();
+    private final Map<RyseInventory, Set<UUID>> viewers = new IdentityHashMap<>();
+
+    private AnimationEngine animationEngine;
+    private RenderQueue renderQueue;
+    private TitleMailbox titleMailbox;
+    private UpdateScheduler updateScheduler;
+    private TimeoutWheel timeoutWheel;
+    private int inventoryEvents;
+    private Executor providerExecutor;
+    private ExecutorService ownedProviderExecutor;
 
     /*
      * Used to prevent multi open on menus, this is a 100ms delay between opening menus.
@@ -90,7 +111,8 @@ public class InventoryManager {
      * @return true if the player can open the menu, false if not.
      * */
     public boolean canOpen(UUID uuid) {
-        return !lastOpen.containsKey(uuid) || System.currentTimeMillis() - lastOpen.get(uuid) > 500;
+        MenuSession session = this.sessions.get(uuid);
+        return session == null || System.currentTimeMillis() - session.getLastOpen() > OPEN_COOLDOWN;
     }
 
     /*
@@ -98,7 +120,247 @@ public class InventoryManager {
      * @param uuid The uuid of the player.
      * */
     public void setLastOpen(UUID uuid) {
-        lastOpen.put(uuid, System.currentTimeMillis());
+        session(uuid).setLastOpen(System.currentTimeMillis());
+    }
+
+    /**
+     * Opens the inventory right away if this is possible on the current tick, otherwise the request is queued. A player
+     * has at most one queued request, a newer request replaces the older one.
+     * <p>
+     * Requests made off the main thread, while an inventory event is dispatched or during the cooldown of the last open
+     * are queued.
+     *
+     * @param uuid The uuid of the player.
+     * @param open Opens the inventory.
+     */
+    void requestOpen(@NotNull UUID uuid, @NotNull Runnable open) {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(this.plugin, () -> requestOpen(uuid, open));
+            return;
+        }
+
+        MenuSession session = session(uuid);
+        session.setPendingOpen(open);
+
+        if (session.getOpenTask() != null)
+            return;
+
+        if (this.inventoryEvents == 0 && canOpen(uuid)) {
+            runPendingOpen(uuid);
+            return;
+        }
+
+        scheduleOpen(uuid, session);
+    }
+
+    /**
+     * Runs the queued open request of the player, or queues it again if the cooldown has not passed yet.
+     *
+     * @param uuid The uuid of the player.
+     */
+    private void runPendingOpen(@NotNull UUID uuid) {
+        MenuSession session = this.sessions.get(uuid);
+        if (session == null || session.getPendingOpen() == null)
+            return;
+
+        if (Bukkit.getPlayer(uuid) == null) {
+            session.setPendingOpen(null);
+            return;
+        }
+
+        if (!canOpen(uuid)) {
+            scheduleOpen(uuid, session);
+            return;
+        }
+
+        Runnable open = session.getPendingOpen();
+        session.setPendingOpen(null);
+        open.run();
+    }
+
+    /**
+     * Schedules the queued open request of the player for the tick on which the cooldown ends.
+     *
+     * @param uuid    The uuid of the player.
+     * @param session The session of the player.
+     */
+    private void scheduleOpen(@NotNull UUID uuid, @NotNull MenuSession session) {
+        long remaining = OPEN_COOLDOWN - (System.currentTimeMillis() - session.getLastOpen());
+        long delay = Math.max(1, (remaining + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK);
+
+        session.setOpenTask(Bukkit.getScheduler().runTaskLater(this.plugin, () -> {
+            MenuSession current = this.sessions.get(uuid);
+            if (current != null)
+                current.setOpenTask(null);
+
+            runPendingOpen(uuid);
+        }, delay));
+    }
+
+    /**
+     * Sets the executor on which {@link io.github.rysefoxx.inventory.plugin.content.AsyncInventoryProvider}s load their
+     * contents. By default, virtual threads are used where the JVM supports them, otherwise a cached thread pool.
+     *
+     * @param executor The executor to use.
+     */
+    public void setProviderExecutor(@NotNull Executor executor) {
+        this.providerExecutor = executor;
+    }
+
+    /**
+     * @return The executor on which asynchronous providers load their contents.
+     */
+    @NotNull Executor getProviderExecutor() {
+        if (this.providerExecutor != null)
+            return this.providerExecutor;
+
+        if (this.ownedProviderExecutor == null)
+            this.ownedProviderExecutor = createProviderExecutor();
+
+        return this.ownedProviderExecutor;
+    }
+
+    private static @NotNull ExecutorService createProviderExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException ignored) {
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "RyseInventory-Provider-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Remembers the contents that are loaded for the player. Contents that are still being loaded are cancelled.
+     *
+     * @param uuid   The uuid of the player.
+     * @param future The loading contents.
+     */
+    void setPendingLoad(@NotNull UUID uuid, @NotNull CompletableFuture<?> future) {
+        MenuSession session = session(uuid);
+        session.cancelLoad();
+        session.setPendingLoad(future);
+    }
+
+    /**
+     * Forgets the loaded contents of the player if they still belong to the open inventory.
+     *
+     * @param uuid     The uuid of the player.
+     * @param future   The loaded contents.
+     * @param contents The contents they were loaded for.
+     * @return true if the contents can be applied.
+     */
+    boolean finishLoad(@NotNull UUID uuid, @NotNull CompletableFuture<?> future, @NotNull InventoryContents contents) {
+        MenuSession session = this.sessions.get(uuid);
+        if (session == null || session.getPendingLoad() != future || session.getContents() != contents)
+            return false;
+
+        session.setPendingLoad(null);
+        return !future.isCancelled();
+    }
+
+    /**
+     * Returns the engine that drives all animations of the inventories of this manager.
+     *
+     * @return The animation engine.
+     */
+    @ApiStatus.Internal
+    public @NotNull AnimationEngine getAnimationEngine() {
+        if (this.animationEngine == null)
+            this.animationEngine = new AnimationEngine(this.plugin);
+
+        return this.animationEngine;
+    }
+
+    /**
+     * Runs the task after the delay, unless the player leaves the menu before. All delayed actions of the player are
+     * cancelled when the player closes the menu or opens another one.
+     *
+     * @param uuid  The uuid of the player the action belongs to.
+     * @param delay The delay in ticks.
+     * @param task  The task to run.
+     * @return The timeout to cancel the task with.
+     */
+    @NotNull TimeoutWheel.Timeout schedule(@NotNull UUID uuid, long delay, @NotNull Runnable task) {
+        if (this.timeoutWheel == null)
+            this.timeoutWheel = new TimeoutWheel(this.plugin);
+
+        return this.timeoutWheel.schedule(session(uuid), delay, task);
+    }
+
+    /**
+     * Returns the counters of the delayed actions of the menus of this manager, such as closeAfter, openDelay,
+     * loadDelay, loadTitle and click delays.
+     *
+     * @return A snapshot of the counters.
+     */
+    public @NotNull TimeoutMetrics getTimeoutMetrics() {
+        return this.timeoutWheel == null
+                ? new TimeoutMetrics(0, 0, 0, 0)
+                : this.timeoutWheel.metrics();
+    }
+
+    /**
+     * Returns the counters of the packets that the menus send through the {@link PacketDispatcher}, such as title
+     * changes and slot updates after clicks.
+     *
+     * @return A snapshot of the counters.
+     */
+    public @NotNull PacketMetrics getPacketMetrics() {
+        return PacketDispatcher.shared().metrics();
+    }
+
+    /**
+     * Cancels all delayed actions of the session.
+     *
+     * @param session The session whose actions should be cancelled.
+     */
+    private void cancelTimeouts(@NotNull MenuSession session) {
+        if (this.timeoutWheel != null)
+            this.timeoutWheel.cancelAll(session);
+    }
+
+    /**
+     * Returns the queue that collects the slot writes of all inventories of this manager.
+     *
+     * @return The render queue.
+     */
+    @NotNull RenderQueue getRenderQueue() {
+        if (this.renderQueue == null)
+            this.renderQueue = new RenderQueue(this.plugin);
+
+        return this.renderQueue;
+    }
+
+    /**
+     * Returns the mailbox that collects the title changes of all players of this manager.
+     *
+     * @return The title mailbox.
+     */
+    @NotNull TitleMailbox getTitleMailbox() {
+        if (this.titleMailbox == null)
+            this.titleMailbox = new TitleMailbox(this.plugin, this);
+
+        return this.titleMailbox;
+    }
+
+    /**
+     * Sets how many titles a player is sent at most per second. Titles beyond the limit are delayed, and only the
+     * latest of them is sent. By default, a player can be sent one title per tick.
+     *
+     * @param maxTitlesPerSecond The number of titles per second and player.
+     * @throws IllegalArgumentException if the number is smaller than 1.
+     */
+    public void setMaxTitlesPerSecond(int maxTitlesPerSecond) {
+        if (maxTitlesPerSecond < 1)
+            throw new IllegalArgumentException("The number of titles per second must be at least 1.");
+
+        getTitleMailbox().setMaxTitlesPerSecond(maxTitlesPerSecond);
     }
 
     /**
@@ -108,8 +370,30 @@ public class InventoryManager {
      * @throws NullPointerException If the item ID is null.
      */
     public void register(@NotNull final IntelligentItem item) throws NullPointerException {
-        if (item.getId() == null) throw new NullPointerException("The item has no ID!");
-        this.items.add(item);
+        Object id = item.getId();
+        if (id == null) throw new NullPointerException("The item has no ID!");
+
+        Object previousId = this.itemIds.put(item, id);
+        if (previousId != null) {
+            if (previousId.equals(id)) return;
+            removeItem(previousId, item);
+        }
+
+        this.items.computeIfAbsent(id, key -> new ArrayList<>()).add(item);
+    }
+
+    /**
+     * Removes the IntelligentItem from the registry.
+     *
+     * @param item The item to remove.
+     * @return true if the item was registered.
+     */
+    public boolean unregister(@NotNull IntelligentItem item) {
+        Object id = this.itemIds.remove(item);
+        if (id == null) return false;
+
+        removeItem(id, item);
+        return true;
     }
 
     /**
@@ -117,7 +401,10 @@ public class InventoryManager {
      * @return Returns the first IntelligentItem that matches the ID. If no item is found, null is returned.
      */
     public @Nullable IntelligentItem getItemById(@NotNull Object id) {
-        return this.items.stream().filter(item -> item.getId() == id).findFirst().orElse(null);
+        List<IntelligentItem> result = this.items.get(id);
+        if (result == null) return null;
+
+        return result.get(0);
     }
 
     /**
@@ -125,13 +412,25 @@ public class InventoryManager {
      * @return Returns all IntelligentItems that match the ID. If no item is found, an empty list is returned.
      */
     public @NotNull List<IntelligentItem> getAllItemsById(@NotNull Object id) {
-        List<IntelligentItem> result = new ArrayList<>();
-        for (IntelligentItem item : this.items) {
-            if (item.getId() != id) continue;
+        List<IntelligentItem> result = this.items.get(id);
+        if (result == null) return new ArrayList<>();
 
-            result.add(item);
-        }
-        return result;
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Removes the item from the items that are registered with the given ID.
+     *
+     * @param id   The ID the item is registered with.
+     * @param item The item to remove.
+     */
+    private void removeItem(@NotNull Object id, @NotNull IntelligentItem item) {
+        List<IntelligentItem> registered = this.items.get(id);
+        if (registered == null) return;
+
+        registered.removeIf(intelligentItem -> intelligentItem == item);
+        if (registered.isEmpty())
+            this.items.remove(id);
     }
 
     /**
@@ -141,8 +440,7 @@ public class InventoryManager {
      * @return null if the player has no inventory open.
      */
     public @NotNull Optional<RyseInventory> getInventory(@NotNull UUID uuid) {
-        if (!hasInventory(uuid)) return Optional.empty();
-        return Optional.ofNullable(this.inventories.get(uuid));
+        return Optional.ofNullable(openInventory(uuid));
     }
 
     /**
@@ -152,16 +450,10 @@ public class InventoryManager {
      * @return The list with all found players.
      */
     public @NotNull List<UUID> getOpenedPlayers(@NotNull RyseInventory inventory) {
-        List<UUID> players = new ArrayList<>();
-        Bukkit.getOnlinePlayers().forEach(player -> {
-            Optional<RyseInventory> optional = getInventory(player.getUniqueId());
+        Set<UUID> players = this.viewers.get(inventory);
+        if (players == null) return new ArrayList<>();
 
-            optional.ifPresent(savedInventory -> {
-                if (!inventory.equals(savedInventory)) return;
-                players.add(player.getUniqueId());
-            });
-        });
-        return players;
+        return new ArrayList<>(players);
     }
 
     /**
@@ -171,9 +463,12 @@ public class InventoryManager {
      * @return null if there is no final inventory.
      */
     public @NotNull Optional<RyseInventory> getLastInventory(@NotNull UUID uuid) {
-        if (!this.lastInventories.containsKey(uuid)) return Optional.empty();
-        if (this.lastInventories.get(uuid).isEmpty()) return Optional.empty();
-        RyseInventory inventory = this.lastInventories.get(uuid).remove(this.lastInventories.get(uuid).size() - 1);
+        MenuSession session = this.sessions.get(uuid);
+        if (session == null) return Optional.empty();
+
+        List<RyseInventory> lastInventories = session.getLastInventories();
+        if (lastInventories.isEmpty()) return Optional.empty();
+        RyseInventory inventory = lastInventories.remove(lastInventories.size() - 1);
         inventory.setBackward();
 
         return Optional.of(inventory);
@@ -188,18 +483,11 @@ public class InventoryManager {
      * Only works if the inventory has also been assigned an identifier.
      */
     public @NotNull Optional<RyseInventory> getInventory(@NotNull Object identifier) {
-        Optional<RyseInventory> optional = this.inventories.values()
-                .stream()
-                .filter(inventory -> Objects.equals(inventory.getIdentifier(), identifier))
-                .findFirst();
-
-        if (optional.isPresent())
-            return optional;
+        RyseInventory inventory = this.openInventories.get(identifier);
+        if (inventory != null)
+            return Optional.of(inventory);
 
-        return this.cachedInventories
-                .stream()
-                .filter(inventory -> Objects.equals(inventory.getIdentifier(), identifier))
-                .findFirst();
+        return Optional.ofNullable(this.cachedInventories.get(identifier));
     }
 
     /**
@@ -209,63 +497,96 @@ public class InventoryManager {
      * @return the player inventory content.
      */
     public @NotNull Optional<InventoryContents> getContents(@NotNull UUID uuid) {
-        if (!this.content.containsKey(uuid)) return Optional.empty();
-        return Optional.ofNullable(this.content.get(uuid));
+        MenuSession session = this.sessions.get(uuid);
+        if (session == null) return Optional.empty();
+        return Optional.ofNullable(session.getContents());
     }
 
     /**
-     * Registers the standard events
+     * Registers the standard events and looks up the title module of the server.
      */
     public void invoke() {
         Bukkit.getPluginManager().registerEvents(new InventoryListener(), this.plugin);
         invoked = true;
+
+        if (ReflectionUtils.supports(20))
+            VersionUtils.getTitleWrapper();
+    }
+
+    /**
+     * Returns the session of the player and creates it if the player does not have one yet.
+     *
+     * @param uuid The UUID of the player.
+     * @return The session of the player.
+     */
+    private @NotNull MenuSession session(@NotNull UUID uuid) {
+        return this.sessions.computeIfAbsent(uuid, key -> new MenuSession());
     }
 
     /**
-     * Returns true if the given UUID has an inventory.
+     * Returns the inventory the player has open.
      *
-     * @param uuid The UUID of the player to check for.
-     * @return true when the player has an inventory.
+     * @param uuid The UUID of the player.
+     * @return null if the player has no inventory open.
      */
     @Contract(pure = true)
-    private boolean hasInventory(@NotNull UUID uuid) {
-        return this.inventories.containsKey(uuid);
+    private @Nullable RyseInventory openInventory(@NotNull UUID uuid) {
+        MenuSession session = this.sessions.get(uuid);
+        return session == null ? null : session.getInventory();
     }
 
     /**
-     * Removes the inventory from the player
+     * Removes the session of the player. This drops the open inventory, the contents, the update task and the
+     * navigation history of this player only. A queued open request is kept, because an inventory can be opened while
+     * the previous one is closed, for example from {@link io.github.rysefoxx.inventory.plugin.content.InventoryProvider#close(Player, RyseInventory)}.
      *
      * @param uuid The UUID of the player to remove the inventory from.
      */
     protected void removeInventoryFromPlayer(@NotNull UUID uuid) {
-        this.inventories.remove(uuid);
-        this.content.remove(uuid);
-        this.lastInventories.clear();
-        this.lastOpen.clear();
-        BukkitTask task = this.updaterTask.remove(uuid);
+        MenuSession session = this.sessions.remove(uuid);
+        if (session == null) return;
+
+        if (session.getPendingOpen() != null) {
+            MenuSession next = session(uuid);
+            next.setLastOpen(session.getLastOpen());
+            next.setPendingOpen(session.getPendingOpen());
+            next.setOpenTask(session.getOpenTask());
+        }
+
+        removeViewer(uuid, session.getInventory());
+        session.stopUpdate();
+        session.cancelLoad();
+        cancelTimeouts(session);
 
-        if (task != null)
-            task.cancel();
+        if (this.titleMailbox != null)
+            this.titleMailbox.reset(uuid);
     }
 
     /**
-     * It removes the inventory of the player with the given UUID from the HashMap
+     * It removes the open inventory of the player with the given UUID from the session
      *
      * @param uuid The UUID of the player to remove the inventory of.
      */
     protected void removeInventory(@NotNull UUID uuid) {
-        this.inventories.remove(uuid);
+        MenuSession session = this.sessions.get(uuid);
+        if (session == null) return;
+
+        removeViewer(uuid, session.getInventory());
+        session.setInventory(null);
+        session.cancelLoad();
+        cancelTimeouts(session);
+        resetTitle(uuid);
     }
 
     /**
-     * It puts the contents of the inventory into a HashMap
+     * It puts the contents of the inventory into the session of the player
      *
      * @param uuid     The UUID of the player who's inventory you want to set.
      * @param contents The InventoryContents object that you want to set.
      */
     @ApiStatus.Internal
     public void setContents(@NotNull UUID uuid, @NotNull InventoryContents contents) {
-        this.content.put(uuid, contents);
+        session(uuid).setContents(contents);
     }
 
     /**
@@ -276,7 +597,101 @@ public class InventoryManager {
      */
     protected void setInventory(@NotNull UUID uuid,
                                 @NotNull RyseInventory inventory) {
-        this.inventories.put(uuid, inventory);
+        MenuSession session = session(uuid);
+        if (session.getInventory() == inventory) return;
+
+        removeViewer(uuid, session.getInventory());
+        session.setInventory(inventory);
+        this.viewers.computeIfAbsent(inventory, key -> {
+            if (inventory.getIdentifier() != null)
+                this.openInventories.putIfAbsent(inventory.getIdentifier(), inventory);
+
+            return new LinkedHashSet<>();
+        }).add(uuid);
+    }
+
+    /**
+     * Removes the player from the viewers of the inventory.
+     *
+     * @param uuid      The UUID of the player.
+     * @param inventory The inventory the player no longer views.
+     */
+    private void removeViewer(@NotNull UUID uuid, @Nullable RyseInventory inventory) {
+        if (inventory == null) return;
+
+        Set<UUID> players = this.viewers.get(inventory);
+        if (players == null) return;
+
+        players.remove(uuid);
+        if (!players.isEmpty()) return;
+
+        this.viewers.remove(inventory);
+
+        Object identifier = inventory.getIdentifier();
+        if (identifier == null || !this.openInventories.remove(identifier, inventory)) return;
+
+        for (RyseInventory openInventory : this.viewers.keySet()) {
+            if (!identifier.equals(openInventory.getIdentifier())) continue;
+
+            this.openInventories.put(identifier, openInventory);
+            return;
+        }
+    }
+
+    /**
+     * Sets the Bukkit inventory that the given RyseInventory built for the player.
+     *
+     * @param uuid      The UUID of the player.
+     * @param inventory The RyseInventory that built the view.
+     * @param view      The Bukkit inventory the player is shown.
+     */
+    void setView(@NotNull UUID uuid, @NotNull RyseInventory inventory, @NotNull Inventory view) {
+        session(uuid).setView(inventory, view);
+    }
+
+    /**
+     * Returns the Bukkit inventory that the given RyseInventory built for the player.
+     *
+     * @param uuid      The UUID of the player.
+     * @param inventory The RyseInventory that built the view.
+     * @return null if the player is not shown an inventory of the given RyseInventory.
+     */
+    @Nullable Inventory getView(@NotNull UUID uuid, @NotNull RyseInventory inventory) {
+        MenuSession session = this.sessions.get(uuid);
+        return session == null ? null : session.getView(inventory);
+    }
+
+    /**
+     * Drops the title channel of the player and the title the player saw, because the player is shown a new window.
+     *
+     * @param uuid The UUID of the player.
+     */
+    void resetTitle(@NotNull UUID uuid) {
+        if (this.titleMailbox != null)
+            this.titleMailbox.reset(uuid);
+
+        MenuSession session = this.sessions.get(uuid);
+
+        if (session != null)
+            session.setTitleChannel(null);
+    }
+
+    /**
+     * Returns the title channel of the window the given RyseInventory shows the player. The channel is looked up on
+     * the first title change and kept until the player is shown another window.
+     *
+     * @param player    The player whose title is changed.
+     * @param inventory The RyseInventory whose title is changed.
+     * @return null if the player has not opened the given RyseInventory or its title cannot be changed.
+     */
+    @Nullable TitleUpdater.Channel getTitleChannel(@NotNull Player player, @NotNull RyseInventory inventory) {
+        MenuSession session = this.sessions.get(player.getUniqueId());
+        if (session == null || session.getInventory() != inventory) return null;
+
+        if (session.getTitleChannel() == null)
+            session.setTitleChannel(TitleUpdater.openChannel(player));
+
+        return session.getTitleChannel();
     }
 
     /**
@@ -289,13 +704,9 @@ public class InventoryManager {
     protected void setLastInventory(@NotNull UUID uuid,
                                     @NotNull RyseInventory inventory,
                                     @NotNull RyseInventory newInventory) {
-        List<RyseInventory> inventoryList = this.lastInventories.getOrDefault(uuid, new ArrayList<>());
-
         if (inventory.equals(newInventory)) return;
 
-        inventoryList.add(inventory);
-
-        this.lastInventories.put(uuid, inventoryList);
+        session(uuid).getLastInventories().add(inventory);
     }
 
     /**
@@ -304,39 +715,35 @@ public class InventoryManager {
      * @param uuid The UUID of the player to stop updating.
      */
     protected void stopUpdate(@NotNull UUID uuid) {
-        if (!this.updaterTask.containsKey(uuid)) return;
+        MenuSession session = this.sessions.get(uuid);
 
-        BukkitTask task = this.updaterTask.remove(uuid);
-        task.cancel();
+        if (session != null)
+            session.stopUpdate();
     }
 
     /**
-     * If the player has an inventory, and the inventory is the same as the one passed in, then update the inventory
+     * If the player has an inventory, and the inventory is the same as the one passed in, then update the inventory.
+     * All viewers of the same inventory and period are updated by one shared task.
      *
      * @param player    The player who's inventory is being updated.
      * @param inventory The inventory that will be updated.
      */
     protected void invokeScheduler(@NotNull Player player,
                                    @NotNull RyseInventory inventory) {
-        if (this.updaterTask.containsKey(player.getUniqueId())) return;
+        MenuSession session = session(player.getUniqueId());
+        if (session.getUpdateTask() != null) return;
         if (!inventory.isUpdateTask()) return;
 
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!hasInventory(player.getUniqueId())) {
-                    cancel();
-                    return;
-                }
-                RyseInventory savedInventory = inventories.get(player.getUniqueId());
-                if (savedInventory != inventory) {
-                    cancel();
-                    return;
-                }
-                savedInventory.getProvider().update(player, content.get(player.getUniqueId()));
-            }
-        }.runTaskTimer(this.plugin, inventory.getDelay(), inventory.getPeriod());
-        this.updaterTask.put(player.getUniqueId(), task);
+        if (this.updateScheduler == null)
+            this.updateScheduler = new UpdateScheduler(this.plugin);
+
+        session.setUpdateTask(this.updateScheduler.subscribe(inventory, inventory.getDelay(), inventory.getPeriod(), inventory.isStaggerUpdates(), () -> {
+            if (this.sessions.get(player.getUniqueId()) != session || session.getInventory() != inventory)
+                return false;
+
+            inventory.getProvider().update(player, session.getContents());
+            return true;
+        }));
     }
 
     /**
@@ -345,7 +752,21 @@ public class InventoryManager {
      * @param ryseInventory The inventory to save.
      */
     protected void addToCache(RyseInventory ryseInventory) {
-        this.cachedInventories.add(ryseInventory);
+        if (ryseInventory.getIdentifier() == null) return;
+
+        this.cachedInventories.put(ryseInventory.getIdentifier(), ryseInventory);
+    }
+
+    /**
+     * Removes the inventory from the cache.
+     *
+     * @param ryseInventory The inventory to remove.
+     * @return true if the inventory was cached.
+     */
+    public boolean removeFromCache(@NotNull RyseInventory ryseInventory) {
+        if (ryseInventory.getIdentifier() == null) return false;
+
+        return this.cachedInventories.remove(ryseInventory.getIdentifier(), ryseInventory);
     }
 
     /**
@@ -353,21 +774,15 @@ public class InventoryManager {
      */
     public class InventoryListener implements Listener {
 
-        @Contract(pure = true)
-        private boolean hasContents(@NotNull UUID uuid) {
-            return content.containsKey(uuid);
-        }
-
         @EventHandler(ignoreCancelled = true)
         public void onEntityDamage(@NotNull EntityDamageEvent event) {
             if (!(event.getEntity() instanceof Player)) return;
             Player player = (Player) event.getEntity();
 
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             if (!mainInventory.getOptions().contains(InventoryOptions.NO_DAMAGE)) return;
             event.setCancelled(true);
         }
@@ -377,11 +792,10 @@ public class InventoryManager {
             if (!(event.getEntity() instanceof Player)) return;
             Player player = (Player) event.getEntity();
 
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             if (!mainInventory.getOptions().contains(InventoryOptions.NO_HUNGER)) return;
             event.setCancelled(true);
         }
@@ -389,11 +803,10 @@ public class InventoryManager {
         @EventHandler(ignoreCancelled = true)
         public void onPlayerPickupItem(@NotNull PlayerPickupItemEvent event) {
             Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             if (!mainInventory.getOptions().contains(InventoryOptions.NO_ITEM_PICKUP)) return;
             event.setCancelled(true);
         }
@@ -404,11 +817,10 @@ public class InventoryManager {
             for (LivingEntity entity : event.getAffectedEntities()) {
                 if (!(entity instanceof Player)) continue;
                 Player player = (Player) entity;
-                if (!hasInventory(player.getUniqueId()))
+                RyseInventory mainInventory = openInventory(player.getUniqueId());
+                if (mainInventory == null)
                     continue;
 
-                RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
                 if (!mainInventory.getOptions().contains(InventoryOptions.NO_POTION_EFFECT)) continue;
                 event.setCancelled(true);
 
@@ -432,11 +844,10 @@ public class InventoryManager {
 
             if (!onBlock.isEmpty()) {
                 onBlock.forEach(affectedPlayer -> {
-                    if (!hasInventory(affectedPlayer.getUniqueId()))
+                    RyseInventory mainInventory = openInventory(affectedPlayer.getUniqueId());
+                    if (mainInventory == null)
                         return;
 
-                    RyseInventory mainInventory = inventories.get(affectedPlayer.getUniqueId());
-
                     if (!mainInventory.getOptions().contains(InventoryOptions.NO_BLOCK_BREAK)) return;
                     event.setCancelled(true);
                 });
@@ -446,13 +857,19 @@ public class InventoryManager {
         @EventHandler(priority = EventPriority.LOWEST)
         @SuppressWarnings("unchecked")
         public void onInventoryClick(@NotNull InventoryClickEvent event) {
+            inventoryEvents++;
+
             if (!(event.getWhoClicked() instanceof Player)) return;
             Player player = (Player) event.getWhoClicked();
             ItemStack itemStack = event.getCurrentItem();
 
-            if (!hasInventory(player.getUniqueId()))
+            MenuSession session = sessions.get(player.getUniqueId());
+            if (session == null || !session.hasInventory())
                 return;
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
+            RyseInventory mainInventory = session.getInventory();
+
+            if (renderQueue != null)
+                renderQueue.flush(player.getOpenInventory().getTopInventory());
 
             if (event.getClickedInventory() == null) {
                 if (mainInventory.getCloseReasons().contains(CloseReason.CLICK_OUTSIDE))
@@ -462,7 +879,7 @@ public class InventoryManager {
 
             EventCreator<InventoryClickEvent> customEvent = (EventCreator<InventoryClickEvent>) mainInventory.getEvent(InventoryClickEvent.class);
             if (customEvent != null)
-                Bukkit.getScheduler().runTaskLater(plugin, () -> customEvent.accept(event), 2L);
+                schedule(player.getUniqueId(), 2, () -> customEvent.accept(event));
 
             List<DisabledInventoryClick> list = mainInventory.getIgnoreClickEvent();
 
@@ -472,7 +889,7 @@ public class InventoryManager {
             Inventory topInventory = player.getOpenInventory().getTopInventory();
             int slot = event.getSlot();
             ClickType clickType = event.getClick();
-            InventoryContents contents = content.get(player.getUniqueId());
+            InventoryContents contents = session.getContents();
 
             if (clickedInventory == bottomInventory) {
                 if (!list.contains(DisabledInventoryClick.BOTTOM) && !list.contains(DisabledInventoryClick.BOTH)) {
@@ -514,7 +931,7 @@ public class InventoryManager {
             }
 
             if (clickedInventory == topInventory) {
-                if (!hasContents(player.getUniqueId()))
+                if (contents == null)
                     return;
                 if (slot < 0 || (mainInventory.getInventoryOpenerType() == InventoryOpenerType.CHEST && slot > mainInventory.size(contents))) {
                     return;
@@ -570,32 +987,51 @@ public class InventoryManager {
                         return;
                     }
 
-                    if (item.getDelayTask() != null && Bukkit.getScheduler().isCurrentlyRunning(item.getDelayTask().getTaskId()))
-                        return;
-
-                    item.setDelayTask(Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                    schedule(player.getUniqueId(), item.getDelay(), () -> {
                         if (!item.isCanClick()) {
                             item.getError().cantClick(player, item);
                             return;
                         }
-                        item.setDelayTask(null);
                         item.getDefaultConsumer().accept(event);
-                        player.updateInventory();
-                    }, item.getDelay()));
+                        resync(player, event);
+                    });
                 });
             }
         }
 
+        /**
+         * Sends the slots touched by the click and the cursor to the player again. Clicks that may move items across
+         * the whole window still update the entire inventory.
+         */
+        private void resync(@NotNull Player player, @NotNull InventoryClickEvent event) {
+            InventoryAction action = event.getAction();
+            if (action == InventoryAction.MOVE_TO_OTHER_INVENTORY
+                    || action == InventoryAction.COLLECT_TO_CURSOR
+                    || action == InventoryAction.UNKNOWN) {
+                player.updateInventory();
+                return;
+            }
+
+            if (event.getClick() == ClickType.NUMBER_KEY) {
+                int hotbarSlot = event.getView().getTopInventory().getSize() + 27 + event.getHotbarButton();
+                SlotUpdater.updateSlots(player, event.getRawSlot(), hotbarSlot);
+                return;
+            }
+            SlotUpdater.updateSlots(player, event.getRawSlot());
+        }
+
         @EventHandler(priority = EventPriority.LOWEST)
         @SuppressWarnings("unchecked")
         public void onInventoryDrag(@NotNull InventoryDragEvent event) {
+            inventoryEvents++;
+
             if (!(event.getWhoClicked() instanceof Player)) return;
             Player player = (Player) event.getWhoClicked();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
             Inventory topInventory = player.getOpenInventory().getTopInventory();
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
 
             EventCreator<InventoryDragEvent> customEvent = (EventCreator<InventoryDragEvent>) mainInventory.getEvent(InventoryDragEvent.class);
             if (customEvent != null) {
@@ -615,13 +1051,14 @@ public class InventoryManager {
         @EventHandler(priority = EventPriority.LOWEST)
         @SuppressWarnings("unchecked")
         public void onInventoryClose(@NotNull InventoryCloseEvent event) {
+            inventoryEvents++;
+
             if (!(event.getPlayer() instanceof Player)) return;
             Player player = (Player) event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             if (!mainInventory.isCloseAble()) {
                 Bukkit.getScheduler().runTask(plugin, () -> mainInventory.open(player));
                 return;
@@ -638,14 +1075,43 @@ public class InventoryManager {
             mainInventory.close(player);
         }
 
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onInventoryClickEnd(@NotNull InventoryClickEvent event) {
+            endInventoryEvent();
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onInventoryDragEnd(@NotNull InventoryDragEvent event) {
+            endInventoryEvent();
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onInventoryCloseEnd(@NotNull InventoryCloseEvent event) {
+            endInventoryEvent();
+        }
+
+        /**
+         * Marks the end of an inventory event. Opens requested while Bukkit dispatches click, drag or close events are
+         * queued, because opening an inventory from within these events is not safe.
+         */
+        private void endInventoryEvent() {
+            if (inventoryEvents > 0)
+                inventoryEvents--;
+        }
+
         @EventHandler(priority = EventPriority.LOWEST)
         @SuppressWarnings("unchecked")
         public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
             Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            MenuSession session = sessions.get(player.getUniqueId());
+            if (session == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
+            if (!session.hasInventory()) {
+                removeInventoryFromPlayer(player.getUniqueId());
+                return;
+            }
+            RyseInventory mainInventory = session.getInventory();
 
             EventCreator<PlayerQuitEvent> customEvent = (EventCreator<PlayerQuitEvent>) mainInventory.getEvent(PlayerQuitEvent.class);
             if (customEvent == null) return;
@@ -657,11 +1123,10 @@ public class InventoryManager {
         @SuppressWarnings("unchecked")
         public void onRyseInventoryClose(@NotNull RyseInventoryCloseEvent event) {
             Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             EventCreator<RyseInventoryCloseEvent> customEvent = (EventCreator<RyseInventoryCloseEvent>) mainInventory.getEvent(RyseInventoryCloseEvent.class);
             if (customEvent == null) return;
 
@@ -672,11 +1137,10 @@ public class InventoryManager {
         @SuppressWarnings("unchecked")
         public void onRyseInventoryOpen(@NotNull RyseInventoryOpenEvent event) {
             Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             EventCreator<RyseInventoryOpenEvent> customEvent = (EventCreator<RyseInventoryOpenEvent>) mainInventory.getEvent(RyseInventoryOpenEvent.class);
             if (customEvent == null) return;
 
@@ -687,11 +1151,10 @@ public class InventoryManager {
         @SuppressWarnings("unchecked")
         public void onRyseInventoryPreClose(@NotNull RyseInventoryPreCloseEvent event) {
             Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             EventCreator<RyseInventoryPreCloseEvent> customEvent = (EventCreator<RyseInventoryPreCloseEvent>) mainInventory.getEvent(RyseInventoryPreCloseEvent.class);
             if (customEvent == null) return;
 
@@ -702,11 +1165,10 @@ public class InventoryManager {
         @SuppressWarnings("unchecked")
         public void onRyseInventoryPreOpen(@NotNull RyseInventoryPreOpenEvent event) {
             Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
 
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
             EventCreator<RyseInventoryPreOpenEvent> customEvent = (EventCreator<RyseInventoryPreOpenEvent>) mainInventory.getEvent(RyseInventoryPreOpenEvent.class);
             if (customEvent == null) return;
 
@@ -717,10 +1179,9 @@ public class InventoryManager {
         @SuppressWarnings("unchecked")
         public void onRyseInventoryTitleChange(@NotNull RyseInventoryTitleChangeEvent event) {
             Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
+            RyseInventory mainInventory = openInventory(player.getUniqueId());
+            if (mainInventory == null)
                 return;
-
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
             EventCreator<RyseInventoryTitleChangeEvent> customEvent = (EventCreator<RyseInventoryTitleChangeEvent>) mainInventory.getEvent(RyseInventoryTitleChangeEvent.class);
             if (customEvent == null) return;
 
@@ -733,14 +1194,28 @@ public class InventoryManager {
 
             if (disabledPlugin != plugin) return;
 
+            if (renderQueue != null)
+                renderQueue.flush();
+
+            PacketDispatcher.shared().flush();
 
             Bukkit.getOnlinePlayers().forEach(player -> {
-                if (!hasInventory(player.getUniqueId())) return;
+                RyseInventory inventory = openInventory(player.getUniqueId());
+                if (inventory == null) return;
 
-                RyseInventory inventory = inventories.get(player.getUniqueId());
                 inventory.close(player);
             });
 
+            PacketDispatcher.reset();
+
+            if (animationEngine != null)
+                animationEngine.shutdown();
+
+            if (timeoutWheel != null)
+                timeoutWheel.shutdown();
+
+            if (ownedProviderExecutor != null)
+                ownedProviderExecutor.shutdownNow();
         }
 
         /**
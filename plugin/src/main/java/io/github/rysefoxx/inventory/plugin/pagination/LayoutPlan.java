@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The slots of one page that a {@link SlotIterator} fills, in the order in which they are filled. The plan does not
+ * know which slots are occupied, so it can be shared by every pagination that uses the same iterator and inventory
+ * size. Occupied slots are skipped when the plan is applied.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class LayoutPlan {
+
+    private static final int MAX_SLOTS = 54;
+
+    private final SlotIterator.SlotIteratorType type;
+    private final int startSlot;
+    private final int endPosition;
+    private final long blackList;
+    private final int size;
+    private final int[] slots;
+
+    private LayoutPlan(@NotNull SlotIterator.SlotIteratorType type,
+                       int startSlot,
+                       int endPosition,
+                       long blackList,
+                       int size,
+                       int @NotNull [] slots) {
+        this.type = type;
+        this.startSlot = startSlot;
+        this.endPosition = endPosition;
+        this.blackList = blackList;
+        this.size = size;
+        this.slots = slots;
+    }
+
+    /**
+     * @param blackList The blacklisted slots.
+     * @return The blacklisted slots as a bitmask.
+     */
+    static long blackListMask(@NotNull List<Integer> blackList) {
+        long mask = 0;
+        for (int slot : blackList) {
+            if (slot < 0 || slot >= MAX_SLOTS) continue;
+            mask |= 1L << slot;
+        }
+        return mask;
+    }
+
+    /**
+     * Walks one page the way the iterator does and records every slot that may receive an item.
+     *
+     * @param type        The direction of the iterator.
+     * @param startSlot   The slot where every page starts.
+     * @param endPosition The last slot of a page, or -1 if the page ends with the inventory.
+     * @param blackList   The blacklisted slots as a bitmask.
+     * @param size        The size of the inventory.
+     * @return The compiled plan.
+     */
+    static @NotNull LayoutPlan compile(@NotNull SlotIterator.SlotIteratorType type,
+                                       @Nonnegative int startSlot,
+                                       int endPosition,
+                                       long blackList,
+                                       @Nonnegative int size) {
+        boolean vertical = type == SlotIterator.SlotIteratorType.VERTICAL;
+        int step = vertical ? 9 : 1;
+
+        int[] slots = new int[MAX_SLOTS];
+        int found = 0;
+
+        int slot = startSlot;
+        int toAddVertical = 0;
+
+        while (found < MAX_SLOTS) {
+            if (slot >= size) {
+                if (!vertical || slot % 9 >= 8 || (startSlot + toAddVertical + 1) % 9 >= 8)
+                    break;
+
+                toAddVertical++;
+                slot = startSlot + toAddVertical;
+            }
+
+            if (slot < MAX_SLOTS && (blackList & (1L << slot)) != 0) {
+                slot += step;
+                continue;
+            }
+
+            if (endPosition != -1 && slot > endPosition) {
+                if (vertical && slot % 9 != endPosition % 9) {
+                    slot += 9;
+                    continue;
+                }
+                break;
+            }
+
+            slots[found++] = slot;
+            slot += step;
+        }
+
+        return new LayoutPlan(type, startSlot, endPosition, blackList, size, Arrays.copyOf(slots, found));
+    }
+
+    /**
+     * @return true if this plan was compiled from the same iterator settings and inventory size.
+     */
+    boolean matches(@NotNull SlotIterator.SlotIteratorType type, int startSlot, int endPosition, long blackList, int size) {
+        return this.type == type
+                && this.startSlot == startSlot
+                && this.endPosition == endPosition
+                && this.blackList == blackList
+                && this.size == size;
+    }
+
+    /**
+     * @return The slots of a page in the order in which they are filled.
+     */
+    int @NotNull [] getSlots() {
+        return this.slots;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.util.TitleUpdater;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Everything the {@link InventoryManager} knows about one player: the open inventory, its contents, the Bukkit inventory
+ * the player is shown, the update task, the inventories the player can navigate back to, the time of the last open,
+ * the open request that is waiting to be run, the contents that are being loaded and the channel used to change the
+ * title of the open window.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+@Getter
+@Setter
+final class MenuSession {
+
+    private final List<RyseInventory> lastInventories = new ArrayList<>();
+
+    private @Nullable RyseInventory inventory;
+    private @Nullable InventoryContents contents;
+    private @Nullable UpdateScheduler.Subscription updateTask;
+    private long lastOpen;
+    private @Nullable Runnable pendingOpen;
+    private @Nullable BukkitTask openTask;
+    private @Nullable CompletableFuture<?> pendingLoad;
+    private @Nullable TitleUpdater.Channel titleChannel;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private @Nullable RyseInventory viewOwner;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private @Nullable Inventory view;
+
+    /**
+     * @return true if the player currently has a RyseInventory open.
+     */
+    boolean hasInventory() {
+        return this.inventory != null;
+    }
+
+    /**
+     * Sets the Bukkit inventory that is built for the player by the given RyseInventory.
+     *
+     * @param owner The RyseInventory that built the view.
+     * @param view  The Bukkit inventory the player is shown.
+     */
+    void setView(@NotNull RyseInventory owner, @NotNull Inventory view) {
+        this.viewOwner = owner;
+        this.view = view;
+    }
+
+    /**
+     * Returns the Bukkit inventory of the player if it was built by the given RyseInventory.
+     *
+     * @param owner The RyseInventory that is asking.
+     * @return null if the player is shown an inventory of another RyseInventory or none at all.
+     */
+    @Nullable Inventory getView(@NotNull RyseInventory owner) {
+        return this.viewOwner == owner ? this.view : null;
+    }
+
+    /**
+     * Cancels the update task of this session, if one is running.
+     */
+    void stopUpdate() {
+        if (this.updateTask == null) return;
+
+        this.updateTask.cancel();
+        this.updateTask = null;
+    }
+
+    /**
+     * Cancels the loading of asynchronous contents, if they are still being loaded.
+     */
+    void cancelLoad() {
+        if (this.pendingLoad == null) return;
+
+        this.pendingLoad.cancel(true);
+        this.pendingLoad = null;
+    }
+}
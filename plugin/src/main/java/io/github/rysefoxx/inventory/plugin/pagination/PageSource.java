@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.List;
+
+/**
+ * Provides the paginated items of a {@link Pagination} page by page instead of all at once. Only the pages that are
+ * viewed are loaded and a few of them are cached, so the memory needed depends on the pages viewed and not on the
+ * size of the data.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+public interface PageSource {
+
+    /**
+     * Counts the items of the source. Like {@link #load(int, int)}, this method is called from the executor of the
+     * {@link InventoryManager}, together with the first page that is loaded, and never from the main thread. The
+     * result is cached by the pagination until {@link Pagination#invalidateSource()} is called.
+     *
+     * @return The total amount of items.
+     */
+    @Nonnegative
+    int count();
+
+    /**
+     * Loads the items of one page. This method is always called from the executor of the {@link InventoryManager},
+     * never from the main thread, and must therefore be thread-safe.
+     *
+     * @param offset The index of the first item.
+     * @param limit  The maximum amount of items to return.
+     * @return The items, at most limit elements. Fewer items are returned at the end of the data.
+     */
+    @NotNull
+    List<IntelligentItem> load(@Nonnegative int offset, @Nonnegative int limit);
+}
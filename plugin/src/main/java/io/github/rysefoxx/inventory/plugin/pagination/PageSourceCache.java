@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Keeps the recently viewed pages of a {@link PageSource}. The least recently used page is dropped once more than the
+ * capacity is cached, but never the page that was viewed last. Pages are only ever loaded on the executor, never on
+ * the thread that asks for them. If prefetching is enabled, the neighbouring pages of a viewed page are loaded as
+ * well.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class PageSourceCache {
+
+    private final PageSource source;
+    private final boolean prefetch;
+    private final Map<Integer, List<IntelligentItem>> pages;
+    private final Map<Integer, CompletableFuture<List<IntelligentItem>>> loading = new HashMap<>();
+
+    private int pageSize;
+    private int count = -1;
+    private boolean countLoading;
+    private int generation;
+    private int lastViewed = -1;
+
+    PageSourceCache(@NotNull PageSource source, @Nonnegative int capacity, boolean prefetch) {
+        this.source = source;
+        this.prefetch = prefetch;
+        this.pages = new LinkedHashMap<Integer, List<IntelligentItem>>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<IntelligentItem>> eldest) {
+                if (size() <= capacity) return false;
+                if (eldest.getKey() != PageSourceCache.this.lastViewed) return true;
+
+                // The viewed page is kept, the next least recently used page is dropped instead.
+                Iterator<Integer> iterator = keySet().iterator();
+                iterator.next();
+                if (iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return The source of the cached pages.
+     */
+    @NotNull
+    PageSource getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the total amount of items of the source if it has been loaded. The count is loaded on the executor
+     * together with the first page that is loaded, so this never blocks.
+     *
+     * @return The total amount of items or -1 if the count is not loaded yet.
+     */
+    synchronized int count() {
+        return this.count;
+    }
+
+    /**
+     * Returns the items of the page if they are cached. Nothing is loaded, so this never blocks.
+     *
+     * @param page     The page to look up.
+     * @param pageSize The amount of items per page.
+     * @return The items of the page or null if the page is not loaded yet.
+     */
+    synchronized @Nullable List<IntelligentItem> page(@Nonnegative int page, @Nonnegative int pageSize) {
+        resize(pageSize);
+        return this.pages.get(page);
+    }
+
+    /**
+     * Loads the page on the executor unless it is cached, and prefetches its neighbouring pages if the viewed page
+     * changed. A page that is already being loaded is not loaded a second time.
+     *
+     * @param page     The page to load.
+     * @param pageSize The amount of items per page.
+     * @param executor The executor on which the pages are loaded.
+     * @return A future that is completed with the items of the page, on the thread of the executor if the page was
+     * not cached.
+     */
+    synchronized @NotNull CompletableFuture<List<IntelligentItem>> load(@Nonnegative int page,
+                                                                       @Nonnegative int pageSize,
+                                                                       @NotNull Executor executor) {
+        resize(pageSize);
+
+        if (this.lastViewed != page) {
+            this.lastViewed = page;
+            if (this.prefetch) {
+                prefetch(page - 1, executor);
+                prefetch(page + 1, executor);
+            }
+        }
+
+        List<IntelligentItem> items = this.pages.get(page);
+        return items != null ? CompletableFuture.completedFuture(items) : loadAsync(page, executor);
+    }
+
+    /**
+     * Drops all cached pages and the cached count. Pages that are still being prefetched are discarded.
+     */
+    synchronized void invalidate() {
+        clear();
+    }
+
+    private void clear() {
+        this.pages.clear();
+        this.loading.clear();
+        this.count = -1;
+        this.countLoading = false;
+        this.lastViewed = -1;
+        this.generation++;
+    }
+
+    private void resize(@Nonnegative int pageSize) {
+        if (this.pageSize == pageSize) return;
+
+        clear();
+        this.pageSize = pageSize;
+    }
+
+    private void prefetch(int page, @NotNull Executor executor) {
+        if (page < 0 || this.pages.containsKey(page))
+            return;
+
+        if (this.count != -1 && page * this.pageSize >= this.count)
+            return;
+
+        loadAsync(page, executor);
+    }
+
+    /**
+     * Loads the count of the source on the calling thread unless it is cached or already being loaded.
+     *
+     * @param generation The generation of the cache the count is loaded for.
+     */
+    private void loadCount(int generation) {
+        synchronized (this) {
+            if (this.generation != generation || this.count != -1 || this.countLoading)
+                return;
+            this.countLoading = true;
+        }
+
+        int count = -1;
+        try {
+            count = this.source.count();
+        } finally {
+            synchronized (this) {
+                if (this.generation == generation) {
+                    this.countLoading = false;
+                    this.count = count;
+                }
+            }
+        }
+    }
+
+    private @NotNull CompletableFuture<List<IntelligentItem>> loadAsync(int page, @NotNull Executor executor) {
+        CompletableFuture<List<IntelligentItem>> pending = this.loading.get(page);
+        if (pending != null)
+            return pending;
+
+        int generation = this.generation;
+        int pageSize = this.pageSize;
+
+        // The returned stage completes after the page was cached.
+        CompletableFuture<List<IntelligentItem>> future = CompletableFuture
+                .supplyAsync(() -> {
+                    loadCount(generation);
+                    return this.source.load(page * pageSize, pageSize);
+                }, executor)
+                .whenComplete((items, throwable) -> {
+                    synchronized (this) {
+                        if (this.generation != generation)
+                            return;
+
+                        this.loading.remove(page);
+                        if (throwable == null)
+                            this.pages.put(page, items);
+                    }
+                });
+        // The page may already be cached if the executor ran the load on this thread.
+        if (!future.isDone())
+            this.loading.put(page, future);
+        return future;
+    }
+}
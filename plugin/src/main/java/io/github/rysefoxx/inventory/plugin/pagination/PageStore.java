@@ -0,0 +1,288 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.*;
+
+/**
+ * Page-indexed storage behind {@link Pagination}. Every page owns a slot array and items that are shown on all pages
+ * live in a separate layer, so reading, writing and removing a slot does not depend on the amount of stored items.
+ * Each layer also keeps a bitmask of its occupied slots, which is updated whenever a slot is written or cleared.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class PageStore {
+
+    private static final int MAX_SLOTS = 54;
+
+    private final Set<IntelligentItemData> data = new LinkedHashSet<>();
+    private final List<IntelligentItemData[]> pages = new ArrayList<>();
+    private final IntelligentItemData[] presets = new IntelligentItemData[MAX_SLOTS];
+
+    private long[] pageMasks = new long[0];
+    private long presetMask;
+
+    private int paginatedItems;
+
+    /**
+     * Adds the data to the store and indexes it by its current page and slot.
+     * An item that already occupies the same cell is replaced.
+     *
+     * @param itemData The data to add.
+     */
+    void add(@NotNull IntelligentItemData itemData) {
+        if (!this.data.add(itemData))
+            return;
+
+        if (itemData.getOriginalSlot() == -1)
+            this.paginatedItems++;
+
+        index(itemData);
+    }
+
+    /**
+     * Moves the data to another cell. Used when the pagination assigns a slot to an item.
+     *
+     * @param itemData The data to move.
+     * @param slot     The new slot.
+     * @param page     The new page.
+     */
+    void move(@NotNull IntelligentItemData itemData, @Nonnegative int slot, @Nonnegative int page) {
+        unindex(itemData);
+        itemData.setPage(page);
+        itemData.setModifiedSlot(slot);
+
+        if (this.data.contains(itemData))
+            index(itemData);
+    }
+
+    /**
+     * Removes every item that occupies the slot on the given page.
+     *
+     * @param slot The slot to clear.
+     * @param page The page of the slot.
+     */
+    void remove(@Nonnegative int slot, @Nonnegative int page) {
+        if (slot >= MAX_SLOTS)
+            return;
+
+        IntelligentItemData[] layer = pageLayer(page, false);
+        if (layer != null && layer[slot] != null) {
+            unlink(layer[slot]);
+            layer[slot] = null;
+            this.pageMasks[page] &= ~(1L << slot);
+        }
+
+        IntelligentItemData preset = this.presets[slot];
+        if (preset != null && preset.getPage() == page) {
+            unlink(preset);
+            this.presets[slot] = null;
+            this.presetMask &= ~(1L << slot);
+        }
+    }
+
+    /**
+     * @param slot The slot to look up.
+     * @param page The page to look up.
+     * @return The data in the slot, items shown on all pages take precedence.
+     */
+    @Nullable
+    IntelligentItemData get(@Nonnegative int slot, @Nonnegative int page) {
+        if (slot >= MAX_SLOTS)
+            return null;
+
+        IntelligentItemData preset = this.presets[slot];
+        if (preset != null)
+            return preset;
+
+        IntelligentItemData[] layer = pageLayer(page, false);
+        return layer == null ? null : layer[slot];
+    }
+
+    /**
+     * @param page The page to look up.
+     * @return A bitmask of the occupied slots of the page, including the items shown on all pages.
+     */
+    long occupancy(@Nonnegative int page) {
+        if (page < 0 || page >= this.pageMasks.length)
+            return this.presetMask;
+
+        return this.presetMask | this.pageMasks[page];
+    }
+
+    /**
+     * @return A bitmask of the slots occupied by items that are shown on all pages.
+     */
+    long presetOccupancy() {
+        return this.presetMask;
+    }
+
+    /**
+     * @return The number of pages that have a slot layer.
+     */
+    int pageCount() {
+        return this.pages.size();
+    }
+
+    /**
+     * @param slot The slot to look up.
+     * @return The data in the slot of the layer shown on all pages.
+     */
+    @Nullable
+    IntelligentItemData getPreset(@Nonnegative int slot) {
+        return slot >= MAX_SLOTS ? null : this.presets[slot];
+    }
+
+    /**
+     * @param page The page to collect.
+     * @return All placed items of the page, including the items shown on all pages that were set on it.
+     */
+    @NotNull
+    List<IntelligentItemData> byPage(@Nonnegative int page) {
+        List<IntelligentItemData> result = new ArrayList<>();
+
+        IntelligentItemData[] layer = pageLayer(page, false);
+        if (layer != null) {
+            for (IntelligentItemData itemData : layer) {
+                if (itemData == null) continue;
+                result.add(itemData);
+            }
+        }
+
+        for (IntelligentItemData preset : this.presets) {
+            if (preset == null || preset.getPage() != page) continue;
+            result.add(preset);
+        }
+        return result;
+    }
+
+    /**
+     * @return A snapshot of all stored data in insertion order.
+     */
+    @NotNull
+    List<IntelligentItemData> all() {
+        return new ArrayList<>(this.data);
+    }
+
+    /**
+     * Replaces the whole content of the store.
+     *
+     * @param data The new data.
+     */
+    void reset(@NotNull Collection<IntelligentItemData> data) {
+        this.data.clear();
+        this.pages.clear();
+        Arrays.fill(this.presets, null);
+        this.pageMasks = new long[0];
+        this.presetMask = 0;
+        this.paginatedItems = 0;
+
+        data.forEach(this::add);
+    }
+
+    /**
+     * @return The amount of items that are distributed by the pagination.
+     */
+    int paginatedItems() {
+        return this.paginatedItems;
+    }
+
+    private void index(@NotNull IntelligentItemData itemData) {
+        int slot = itemData.getModifiedSlot();
+        if (slot < 0 || slot >= MAX_SLOTS)
+            return;
+
+        IntelligentItemData[] layer = itemData.isPresetOnAllPages()
+                ? this.presets
+                : pageLayer(itemData.getPage(), true);
+
+        IntelligentItemData previous = layer[slot];
+        layer[slot] = itemData;
+        updateMask(itemData, slot, true);
+
+        if (previous != null && previous != itemData)
+            unlink(previous);
+    }
+
+    private void unindex(@NotNull IntelligentItemData itemData) {
+        int slot = itemData.getModifiedSlot();
+        if (slot < 0 || slot >= MAX_SLOTS)
+            return;
+
+        IntelligentItemData[] layer = itemData.isPresetOnAllPages()
+                ? this.presets
+                : pageLayer(itemData.getPage(), false);
+
+        if (layer != null && layer[slot] == itemData) {
+            layer[slot] = null;
+            updateMask(itemData, slot, false);
+        }
+    }
+
+    private void updateMask(@NotNull IntelligentItemData itemData, @Nonnegative int slot, boolean occupied) {
+        long bit = 1L << slot;
+
+        if (itemData.isPresetOnAllPages()) {
+            this.presetMask = occupied ? this.presetMask | bit : this.presetMask & ~bit;
+            return;
+        }
+
+        int page = itemData.getPage();
+        this.pageMasks[page] = occupied ? this.pageMasks[page] | bit : this.pageMasks[page] & ~bit;
+    }
+
+    private void unlink(@NotNull IntelligentItemData itemData) {
+        if (this.data.remove(itemData) && itemData.getOriginalSlot() == -1)
+            this.paginatedItems--;
+    }
+
+    private IntelligentItemData @Nullable [] pageLayer(@Nonnegative int page, boolean create) {
+        if (page < 0)
+            return null;
+
+        while (create && this.pages.size() <= page)
+            this.pages.add(null);
+
+        if (this.pageMasks.length < this.pages.size())
+            this.pageMasks = Arrays.copyOf(this.pageMasks, Math.max(this.pages.size(), this.pageMasks.length * 2));
+
+        if (page >= this.pages.size())
+            return null;
+
+        IntelligentItemData[] layer = this.pages.get(page);
+        if (layer == null && create) {
+            layer = new IntelligentItemData[MAX_SLOTS];
+            this.pages.set(page, layer);
+        }
+        return layer;
+    }
+}
@@ -31,16 +31,15 @@ import io.github.rysefoxx.inventory.plugin.enums.IntelligentType;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Rysefoxx | Rysefoxx#6772
@@ -49,6 +48,8 @@ import java.util.stream.Collectors;
 
 public class Pagination {
 
+    private static final int DEFAULT_CACHED_PAGES = 5;
+
     private final RyseInventory inventory;
     private int page;
 
@@ -62,8 +63,11 @@ public class Pagination {
     @Getter(AccessLevel.PROTECTED)
     private boolean calledItemsPerPage;
 
-    @Setter(AccessLevel.PROTECTED)
-    private List<IntelligentItemData> inventoryData = new ArrayList<>();
+    private final PageStore store;
+
+    private PageSourceCache sourceCache;
+    private int[] sourceSlots;
+    private int[] sourceIndex;
 
     /**
      * @param inventory The inventory where the pagination is used.
@@ -73,6 +77,7 @@ public class Pagination {
         this.inventory = inventory;
         this.itemsPerPage = 1;
         this.page = 0;
+        this.store = new PageStore();
     }
 
     public Pagination(@NotNull Pagination pagination) {
@@ -80,8 +85,11 @@ public class Pagination {
         this.itemsPerPage = pagination.itemsPerPage;
         this.page = pagination.page;
         this.slotIterator = pagination.slotIterator;
-        this.inventoryData = pagination.inventoryData;
+        this.store = pagination.store;
         this.calledItemsPerPage = pagination.calledItemsPerPage;
+        this.sourceCache = pagination.sourceCache;
+        this.sourceSlots = pagination.sourceSlots;
+        this.sourceIndex = pagination.sourceIndex;
     }
 
     /**
@@ -103,6 +111,9 @@ public class Pagination {
     }
 
     /**
+     * If the pagination is backed by a {@link PageSource} whose count has not been loaded yet, the page after the
+     * current one is returned.
+     *
      * @return the last page.
      */
     public @Nonnegative
@@ -110,8 +121,15 @@ public class Pagination {
         if (this.inventory.getFixedPageSize() != -1)
             return this.inventory.getFixedPageSize();
 
-        return (int) Math.ceil((double) this.inventoryData.stream()
-                .filter(data -> data.getOriginalSlot() == -1).count() / calculateValueForPage());
+        int valueForPage = calculateValueForPage();
+        if (valueForPage == 0)
+            return 0;
+
+        int paginatedItems = paginatedItems();
+        if (paginatedItems == -1)
+            return page() + 1;
+
+        return (int) Math.ceil((double) paginatedItems / valueForPage);
     }
 
     /**
@@ -122,14 +140,20 @@ public class Pagination {
     }
 
     /**
+     * If the pagination is backed by a {@link PageSource} whose count has not been loaded yet, false is returned.
+     *
      * @return true if you are on the last page.
      */
     public boolean isLast() {
         if (this.inventory.getFixedPageSize() != -1)
             return this.page == this.inventory.getFixedPageSize() - 1;
 
-        int slide = (int) Math.ceil((double) this.inventoryData.stream()
-                .filter(data -> data.getOriginalSlot() == -1).count() / calculateValueForPage());
+        int paginatedItems = paginatedItems();
+        if (paginatedItems == -1)
+            return false;
+
+        int valueForPage = calculateValueForPage();
+        int slide = valueForPage == 0 ? 0 : (int) Math.ceil((double) paginatedItems / valueForPage);
 
         return this.page >= (slide != 0 ? slide - 1 : 0);
     }
@@ -183,38 +207,50 @@ public class Pagination {
      * Sets a complete list of smart ItemStacks
      *
      * @param items A list of intelligent ItemStacks
+     * @throws IllegalStateException if the pagination is backed by a {@link PageSource}.
      */
     public void setItems(@NotNull List<IntelligentItem> items) {
+        checkNoSource();
+
         for (IntelligentItem item : items)
-            this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+            this.store.add(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
      * Sets a complete list of smart ItemStacks
      *
      * @param items An array of smart ItemStacks
+     * @throws IllegalStateException if the pagination is backed by a {@link PageSource}.
      */
     public void setItems(IntelligentItem @NotNull [] items) {
+        checkNoSource();
+
         for (IntelligentItem item : items)
-            this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+            this.store.add(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
      * Adds a single intelligent ItemStack.
      *
      * @param item the intelligent ItemStack
+     * @throws IllegalStateException if the pagination is backed by a {@link PageSource}.
      */
     public void addItem(@NotNull IntelligentItem item) {
-        this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+        checkNoSource();
+
+        this.store.add(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
      * Adds a single ItemStack.
      *
      * @param itemStack the ItemStack
+     * @throws IllegalStateException if the pagination is backed by a {@link PageSource}.
      */
     public void addItem(@NotNull ItemStack itemStack) {
-        this.inventoryData.add(new IntelligentItemData(IntelligentItem.empty(itemStack), this.page, -1, false, false));
+        checkNoSource();
+
+        this.store.add(new IntelligentItemData(IntelligentItem.empty(itemStack), this.page, -1, false, false));
     }
 
     /**
@@ -222,13 +258,68 @@ public class Pagination {
      *
      * @param itemStack the ItemStack
      * @param type      the type of the ItemStack
+     * @throws IllegalStateException if the pagination is backed by a {@link PageSource}.
      */
     public void addItem(@NotNull ItemStack itemStack, @NotNull IntelligentType type) {
+        checkNoSource();
+
         IntelligentItem item = type == IntelligentType.EMPTY
                 ? IntelligentItem.empty(itemStack)
                 : IntelligentItem.ignored(itemStack);
 
-        this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+        this.store.add(new IntelligentItemData(item, this.page, -1, false, false));
+    }
+
+    /**
+     * Backs the pagination by a source that loads the paginated items page by page. The 5 most recently viewed pages
+     * are cached and no pages are prefetched.
+     *
+     * @param source The source of the paginated items.
+     * @throws IllegalStateException if items were already added with {@link #setItems(List)} or {@link #addItem(IntelligentItem)}.
+     * @see #setSource(PageSource, int, boolean)
+     */
+    public void setSource(@NotNull PageSource source) throws IllegalStateException {
+        setSource(source, DEFAULT_CACHED_PAGES, false);
+    }
+
+    /**
+     * Backs the pagination by a source that loads the paginated items page by page. The items fill the slots of the
+     * SlotIterator that are not occupied by items shown on all pages, so every page shows the same amount of items.
+     * Items that are set on a single page cover the item of the source in their slot.
+     *
+     * @param source      The source of the paginated items.
+     * @param cachedPages How many recently viewed pages are kept.
+     * @param prefetch    If the previous and next page of a viewed page should be loaded in the background on the
+     *                    executor of the {@link InventoryManager}.
+     * @throws IllegalArgumentException if cachedPages is less than 1.
+     * @throws IllegalStateException    if items were already added with {@link #setItems(List)} or {@link #addItem(IntelligentItem)}.
+     */
+    public void setSource(@NotNull PageSource source,
+                          @Nonnegative int cachedPages,
+                          boolean prefetch) throws IllegalArgumentException, IllegalStateException {
+        if (cachedPages < 1)
+            throw new IllegalArgumentException("At least one page must be cached.");
+
+        if (this.store.paginatedItems() > 0)
+            throw new IllegalStateException("A PageSource cannot be combined with items added by Pagination#setItems or Pagination#addItem.");
+
+        this.sourceCache = new PageSourceCache(source, cachedPages, prefetch);
+    }
+
+    /**
+     * @return The source of the paginated items or null if the items were added directly.
+     */
+    public @Nullable PageSource getSource() {
+        return this.sourceCache == null ? null : this.sourceCache.getSource();
+    }
+
+    /**
+     * Drops the cached pages and the cached count of the source, so that they are loaded again the next time they
+     * are viewed. Call this after the data behind the source has changed.
+     */
+    public void invalidateSource() {
+        if (this.sourceCache != null)
+            this.sourceCache.invalidate();
     }
 
     /**
@@ -253,7 +344,7 @@ public class Pagination {
 
         remove(slot);
 
-        this.inventoryData.add(new IntelligentItemData(newItem, this.page, slot, false, true));
+        this.store.add(new IntelligentItemData(newItem, this.page, slot, false, true));
     }
 
     /**
@@ -274,7 +365,7 @@ public class Pagination {
 
         remove(slot, page);
 
-        this.inventoryData.add(new IntelligentItemData(newItem, page, slot, transfer, false));
+        this.store.add(new IntelligentItemData(newItem, page, slot, transfer, false));
     }
 
     /**
@@ -295,7 +386,7 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public void remove(@Nonnegative int slot) {
-        this.inventoryData.removeIf(data -> data.getPage() == this.page && data.getModifiedSlot() == slot);
+        this.store.remove(slot, this.page);
     }
 
     /**
@@ -305,7 +396,7 @@ public class Pagination {
      * @param page The page of the inventory.
      */
     protected void remove(@Nonnegative int slot, @Nonnegative int page) {
-        this.inventoryData.removeIf(data -> data.getPage() == page && data.getModifiedSlot() == slot);
+        this.store.remove(slot, page);
     }
 
     /**
@@ -327,19 +418,17 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public @Nullable IntelligentItem getPresent(@Nonnegative int slot) {
-        return this.inventoryData.stream()
-                .filter(data -> data.getPage() == page && data.getModifiedSlot() == slot && data.isPresetOnAllPages())
-                .findFirst()
-                .map(IntelligentItemData::getItem)
-                .orElse(null);
+        IntelligentItemData data = this.store.getPreset(slot);
+        if (data == null || data.getPage() != this.page)
+            return null;
+
+        return data.getItem();
     }
 
     /**
      * Return the item in the given slot on the given page, or null if there is no item in that slot.
      * <p>
-     * The first thing we do is filter the inventory data to only include data that matches the given page and slot. Then
-     * we use `findFirst()` to get the first item in the stream, if there is one. If there is an item, we use `map()` to
-     * get the item from the data. If there is no item, we use `orElse()` to return null
+     * Items that are shown on all pages take precedence over the items of the page.
      *
      * @param slot The slot number of the item you want to get.
      * @param page The page number of the inventory.
@@ -347,25 +436,83 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public @Nullable IntelligentItem get(@Nonnegative int slot, @Nonnegative int page) {
-        for (IntelligentItemData data : this.inventoryData) {
-            if (data.isPresetOnAllPages() && data.getModifiedSlot() == slot)
-                return data.getItem();
+        IntelligentItemData data = this.store.get(slot, page);
+        return data == null ? getFromSource(slot, page) : data.getItem();
+    }
+
+    /**
+     * Returns the item of the source that is shown in the given slot on the given page. Nothing is loaded, a page
+     * that is not cached yet shows no items until {@link #loadSourcePage(int)} completed.
+     *
+     * @param slot The slot number of the item you want to get.
+     * @param page The page number of the inventory.
+     * @return The item of the source or null if the slot does not show one.
+     */
+    protected @Nullable IntelligentItem getFromSource(@Nonnegative int slot, @Nonnegative int page) {
+        if (this.sourceCache == null || this.sourceIndex == null || slot >= this.sourceIndex.length)
+            return null;
+
+        int index = this.sourceIndex[slot];
+        if (index == -1)
+            return null;
+
+        List<IntelligentItem> items = this.sourceCache.page(page, this.sourceSlots.length);
+        return items != null && index < items.size() ? items.get(index) : null;
+    }
+
+    /**
+     * Loads the page of the source on the executor of the {@link InventoryManager} unless it is cached.
+     *
+     * @param page The page to load.
+     * @return A future that is completed with the items of the page, or null if the pagination has no source.
+     */
+    protected @Nullable CompletableFuture<List<IntelligentItem>> loadSourcePage(@Nonnegative int page) {
+        if (this.sourceCache == null || this.sourceSlots == null)
+            return null;
+
+        return this.sourceCache.load(page, this.sourceSlots.length, this.inventory.getManager().getProviderExecutor());
+    }
 
-            if (data.getPage() == page && data.getModifiedSlot() == slot)
-                return data.getItem();
-        }
+    /**
+     * Sets the slots that show the items of the source, in the order of the items of a page.
+     *
+     * @param slots The slots of a page.
+     */
+    protected void setSourceSlots(int @NotNull [] slots) {
+        int[] index = new int[54];
+        Arrays.fill(index, -1);
+
+        for (int i = 0; i < slots.length; i++)
+            index[slots[i]] = i;
 
-        return null;
+        this.sourceSlots = slots;
+        this.sourceIndex = index;
+    }
+
+    /**
+     * @return The slots that show the items of the source or null if they have not been determined yet.
+     */
+    protected int @Nullable [] getSourceSlots() {
+        return this.sourceSlots;
     }
 
     /**
      * Returns the inventory data of the player.
      *
-     * @return A list of IntelligentItemData objects.
+     * @return A snapshot of all IntelligentItemData objects in insertion order.
      */
     @ApiStatus.Internal
     public @NotNull List<IntelligentItemData> getInventoryData() {
-        return this.inventoryData;
+        return this.store.all();
+    }
+
+    /**
+     * Replaces the whole inventory data.
+     *
+     * @param inventoryData The new inventory data.
+     */
+    protected void setInventoryData(@NotNull List<IntelligentItemData> inventoryData) {
+        this.store.reset(inventoryData);
     }
 
     /**
@@ -374,7 +521,60 @@ public class Pagination {
      * @param itemData The IntelligentItemData object that you want to add to the inventory.
      */
     protected void addInventoryData(IntelligentItemData itemData) {
-        this.inventoryData.add(itemData);
+        this.store.add(itemData);
+    }
+
+    /**
+     * Moves the item data to the given slot and page.
+     *
+     * @param itemData The item data to move.
+     * @param slot     The new slot.
+     * @param page     The new page.
+     */
+    protected void place(@NotNull IntelligentItemData itemData, @Nonnegative int slot, @Nonnegative int page) {
+        this.store.move(itemData, slot, page);
+    }
+
+    /**
+     * @param page The page to look up.
+     * @return A bitmask of the occupied slots of the page.
+     */
+    protected long getOccupiedSlots(@Nonnegative int page) {
+        return this.store.occupancy(page);
+    }
+
+    /**
+     * Returns the slots of the page that show an item, including the items of the source.
+     *
+     * @param page The page to look up.
+     * @return A bitmask in which bit n is set if slot n shows an item.
+     */
+    @ApiStatus.Internal
+    public long getFilledSlots(@Nonnegative int page) {
+        long mask = this.store.occupancy(page);
+        if (this.sourceCache == null || this.sourceSlots == null)
+            return mask;
+
+        List<IntelligentItem> items = this.sourceCache.page(page, this.sourceSlots.length);
+        int loaded = items == null ? 0 : items.size();
+        for (int i = 0; i < loaded && i < this.sourceSlots.length; i++)
+            mask |= 1L << this.sourceSlots[i];
+
+        return mask;
+    }
+
+    /**
+     * @return A bitmask of the slots occupied by items that are shown on all pages.
+     */
+    protected long getPresetSlots() {
+        return this.store.presetOccupancy();
+    }
+
+    /**
+     * @return The number of pages on which items have been placed.
+     */
+    protected int getPageCount() {
+        return this.store.pageCount();
     }
 
     /**
@@ -384,9 +584,7 @@ public class Pagination {
      * @return A list of IntelligentItemData objects.
      */
     protected @NotNull List<IntelligentItemData> getDataByPage(@Nonnegative int page) {
-        return this.inventoryData.stream()
-                .filter(item -> item.getPage() == page)
-                .collect(Collectors.toList());
+        return this.store.byPage(page);
     }
 
     /**
@@ -403,10 +601,30 @@ public class Pagination {
      * minus the slot.
      *
      * @return The number of items per page.
+     * <p>
+     * If the pagination is backed by a source, the number of slots that show its items is returned.
      */
     private int calculateValueForPage() {
+        if (this.sourceCache != null && this.sourceSlots != null)
+            return this.sourceSlots.length;
+
         return this.slotIterator == null || this.slotIterator.getEndPosition() == -1
                 ? this.itemsPerPage
                 : this.slotIterator.getEndPosition() - this.slotIterator.getSlot() - this.slotIterator.getBlackListInternal().size();
     }
+
+    /**
+     * @return The amount of paginated items, or -1 if the pagination is backed by a source whose count is not loaded yet.
+     */
+    private int paginatedItems() {
+        return this.sourceCache == null ? this.store.paginatedItems() : this.sourceCache.count();
+    }
+
+    /**
+     * @throws IllegalStateException if the pagination is backed by a {@link PageSource}.
+     */
+    private void checkNoSource() throws IllegalStateException {
+        if (this.sourceCache != null)
+            throw new IllegalStateException("Items cannot be added to a pagination that is backed by a PageSource.");
+    }
 }
@@ -1,24 +1,33 @@
 package io.github.rysefoxx.inventory.plugin.pagination;
 
-import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 @NoArgsConstructor
-@Getter
 public class PaginationData {
 
-    private final List<Integer> slots = new ArrayList<>();
-    private final List<Integer> pages = new ArrayList<>();
+    private int[] slots = new int[16];
+    private int[] pages = new int[16];
+    private int size;
+    private int slotCursor;
+    private int pageCursor;
+
+    public PaginationData(@Nonnegative int capacity) {
+        this.slots = new int[Math.max(capacity, 1)];
+        this.pages = new int[Math.max(capacity, 1)];
+    }
 
     public PaginationData(@NotNull PaginationData paginationData) {
-        this.slots.addAll(paginationData.slots);
-        this.pages.addAll(paginationData.pages);
+        this.slots = Arrays.copyOf(paginationData.slots, paginationData.slots.length);
+        this.pages = Arrays.copyOf(paginationData.pages, paginationData.pages.length);
+        this.size = paginationData.size;
+        this.slotCursor = paginationData.slotCursor;
+        this.pageCursor = paginationData.pageCursor;
     }
 
     public @NotNull PaginationData newInstance() {
@@ -26,22 +35,49 @@ public class PaginationData {
     }
 
     public void add(@Nonnegative int slot, @Nonnegative int page) {
-        this.slots.add(slot);
-        this.pages.add(page);
+        if (this.size == this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, this.size * 2);
+            this.pages = Arrays.copyOf(this.pages, this.size * 2);
+        }
+
+        this.slots[this.size] = slot;
+        this.pages[this.size] = page;
+        this.size++;
     }
 
     public int getFirstSlot() {
-        if (this.slots.isEmpty())
+        if (this.slotCursor >= this.size)
             return -1;
 
-        return this.slots.remove(0);
+        return this.slots[this.slotCursor++];
     }
 
     public int getFirstPage() {
-        if (this.pages.isEmpty())
+        if (this.pageCursor >= this.size)
             return -1;
 
-        return this.pages.remove(0);
+        return this.pages[this.pageCursor++];
+    }
+
+    /**
+     * @return The slots that have not been handed out yet.
+     */
+    public @NotNull List<Integer> getSlots() {
+        return remaining(this.slots, this.slotCursor);
+    }
+
+    /**
+     * @return The pages that have not been handed out yet.
+     */
+    public @NotNull List<Integer> getPages() {
+        return remaining(this.pages, this.pageCursor);
+    }
+
+    private @NotNull List<Integer> remaining(int @NotNull [] values, int cursor) {
+        List<Integer> result = new ArrayList<>(Math.max(this.size - cursor, 0));
+        for (int i = cursor; i < this.size; i++)
+            result.add(values[i]);
+        return result;
     }
 
     @Override
@@ -49,6 +85,6 @@ public class PaginationData {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         PaginationData that = (PaginationData) o;
-        return Objects.equals(slots, that.slots) && Objects.equals(pages, that.pages);
+        return getSlots().equals(that.getSlots()) && getPages().equals(that.getPages());
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.pattern.SlotIteratorPattern;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The slots of a {@link SlotIteratorPattern} that receive items, in the order in which they are filled. The pattern is
+ * laid over the inventory from the start slot on and repeats when its lines are exhausted.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class PatternLayout {
+
+    private final SlotIteratorPattern pattern;
+    private final int startSlot;
+    private final int endPosition;
+    private final int size;
+    private final int[] slots;
+
+    private PatternLayout(@NotNull SlotIteratorPattern pattern, int startSlot, int endPosition, int size, int @NotNull [] slots) {
+        this.pattern = pattern;
+        this.startSlot = startSlot;
+        this.endPosition = endPosition;
+        this.size = size;
+        this.slots = slots;
+    }
+
+    /**
+     * Compiles the pattern into the slots of one page.
+     *
+     * @param pattern     The pattern.
+     * @param startSlot   The slot where the pattern starts.
+     * @param endPosition The slot where a page ends, or -1 if the page ends with the inventory.
+     * @param size        The size of the inventory.
+     * @return The compiled layout.
+     */
+    static @NotNull PatternLayout compile(@NotNull SlotIteratorPattern pattern,
+                                          @Nonnegative int startSlot,
+                                          int endPosition,
+                                          @Nonnegative int size) {
+        StringBuilder builder = new StringBuilder();
+        List<String> lines = pattern.getLines();
+        for (String line : lines)
+            builder.append(line);
+
+        int limit = endPosition == -1 ? size : Math.min(size, endPosition);
+        if (builder.length() == 0 || limit <= startSlot)
+            return new PatternLayout(pattern, startSlot, endPosition, size, new int[0]);
+
+        int[] slots = new int[limit - startSlot];
+        int found = 0;
+        for (int slot = startSlot; slot < limit; slot++) {
+            if (builder.charAt((slot - startSlot) % builder.length()) != pattern.getAttachedChar()) continue;
+            slots[found++] = slot;
+        }
+        return new PatternLayout(pattern, startSlot, endPosition, size, Arrays.copyOf(slots, found));
+    }
+
+    /**
+     * @return true if this layout was compiled from the same pattern and bounds.
+     */
+    boolean matches(@NotNull SlotIteratorPattern pattern, int startSlot, int endPosition, int size) {
+        return this.pattern == pattern
+                && this.startSlot == startSlot
+                && this.endPosition == endPosition
+                && this.size == size;
+    }
+
+    /**
+     * @return The slots that receive items, in ascending order.
+     */
+    int @NotNull [] getSlots() {
+        return this.slots;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.util.SlotUpdater;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Collects the slot writes of all inventories of an {@link InventoryManager} and writes them once on the next
+ * tick. A slot that is written several times in one tick is only pushed once, and slots whose ItemStack did not change
+ * are not pushed at all. If more than {@link #BULK_THRESHOLD} slots of an inventory changed, for example because a
+ * whole page was loaded, the contents are written at once and, since 1.17, the viewers are sent the window in one
+ * packet instead of one packet per slot. Older servers send every changed slot on their own, there the slots are
+ * written one by one.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class RenderQueue {
+
+    private static final int MAX_SLOTS = 64;
+    static final int BULK_THRESHOLD = 16;
+
+    private final Plugin plugin;
+    private final Map<Inventory, DirtySlots> queued = new IdentityHashMap<>();
+
+    private boolean scheduled;
+
+    RenderQueue(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Queues a copy of the ItemStack for the slot. A previously queued ItemStack for the same slot is replaced. The
+     * copy is taken right away, so changes made to the ItemStack after this call are not shown, as with
+     * {@link Inventory#setItem(int, ItemStack)}.
+     *
+     * @param inventory The inventory to write to.
+     * @param slot      The slot to write.
+     * @param itemStack The ItemStack to show, or null to clear the slot.
+     */
+    void render(@NotNull Inventory inventory, @Nonnegative int slot, @Nullable ItemStack itemStack) {
+        if (slot >= MAX_SLOTS || !this.plugin.isEnabled()) {
+            flush(inventory);
+            inventory.setItem(slot, itemStack);
+            return;
+        }
+
+        this.queued.computeIfAbsent(inventory, key -> new DirtySlots()).mark(slot, itemStack);
+
+        if (this.scheduled) return;
+
+        this.scheduled = true;
+        Bukkit.getScheduler().runTask(this.plugin, () -> {
+            this.scheduled = false;
+            flush();
+        });
+    }
+
+    /**
+     * Writes all queued slots of the inventory immediately.
+     *
+     * @param inventory The inventory to flush.
+     */
+    void flush(@NotNull Inventory inventory) {
+        if (this.queued.isEmpty()) return;
+
+        DirtySlots slots = this.queued.remove(inventory);
+        if (slots == null) return;
+
+        slots.writeTo(inventory);
+    }
+
+    /**
+     * Writes all queued slots of all inventories immediately.
+     */
+    void flush() {
+        Iterator<Map.Entry<Inventory, DirtySlots>> iterator = this.queued.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Inventory, DirtySlots> entry = iterator.next();
+            iterator.remove();
+
+            entry.getValue().writeTo(entry.getKey());
+        }
+    }
+
+    /**
+     * The queued ItemStacks of one inventory with a bitmask of the slots that were written.
+     */
+    private static final class DirtySlots {
+
+        private final ItemStack[] items = new ItemStack[MAX_SLOTS];
+        private long dirty;
+
+        private void mark(@Nonnegative int slot, @Nullable ItemStack itemStack) {
+            this.items[slot] = itemStack == null ? null : itemStack.clone();
+            this.dirty |= 1L << slot;
+        }
+
+        private void writeTo(@NotNull Inventory inventory) {
+            int size = inventory.getSize();
+            long remaining = this.dirty & (size >= MAX_SLOTS ? -1L : (1L << size) - 1);
+
+            if (Long.bitCount(remaining) > BULK_THRESHOLD && SlotUpdater.supportsWindowUpdate()) {
+                writeAllTo(inventory, remaining);
+                return;
+            }
+
+            while (remaining != 0) {
+                int slot = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+
+                ItemStack itemStack = this.items[slot];
+                if (isSame(inventory.getItem(slot), itemStack)) continue;
+
+                inventory.setItem(slot, itemStack);
+            }
+        }
+
+        /**
+         * Writes the slots with one call to {@link Inventory#setContents(ItemStack[])} if enough of them changed, and
+         * sends the window to its viewers in one packet instead of one packet per slot.
+         */
+        private void writeAllTo(@NotNull Inventory inventory, long remaining) {
+            ItemStack[] contents = inventory.getContents();
+            long changed = 0;
+
+            while (remaining != 0) {
+                int slot = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+
+                ItemStack itemStack = this.items[slot];
+                if (slot >= contents.length || isSame(contents[slot], itemStack)) continue;
+
+                contents[slot] = itemStack;
+                changed |= 1L << slot;
+            }
+
+            if (Long.bitCount(changed) <= BULK_THRESHOLD) {
+                while (changed != 0) {
+                    int slot = Long.numberOfTrailingZeros(changed);
+                    changed &= changed - 1;
+
+                    inventory.setItem(slot, contents[slot]);
+                }
+                return;
+            }
+
+            inventory.setContents(contents);
+
+            for (HumanEntity viewer : inventory.getViewers()) {
+                if (!(viewer instanceof Player)) continue;
+                if (viewer.getOpenInventory().getTopInventory() != inventory) continue;
+
+                SlotUpdater.updateWindow((Player) viewer);
+            }
+        }
+
+        private static boolean isSame(@Nullable ItemStack current, @Nullable ItemStack next) {
+            if (isEmpty(current)) return isEmpty(next);
+            return !isEmpty(next) && current.equals(next);
+        }
+
+        private static boolean isEmpty(@Nullable ItemStack itemStack) {
+            return itemStack == null || itemStack.getType() == Material.AIR;
+        }
+    }
+}
@@ -26,7 +26,9 @@
 package io.github.rysefoxx.inventory.plugin.pagination;
 
 import com.google.common.base.Preconditions;
+import io.github.rysefoxx.inventory.api.InventoryTitleWrapper;
 import io.github.rysefoxx.inventory.plugin.animator.*;
+import io.github.rysefoxx.inventory.plugin.content.AsyncInventoryProvider;
 import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
 import io.github.rysefoxx.inventory.plugin.content.IntelligentItemData;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
@@ -36,9 +38,11 @@ import io.github.rysefoxx.inventory.plugin.events.*;
 import io.github.rysefoxx.inventory.plugin.other.EventCreator;
 import io.github.rysefoxx.inventory.plugin.other.Page;
 import io.github.rysefoxx.inventory.plugin.pattern.SlotIteratorPattern;
+import io.github.rysefoxx.inventory.plugin.util.PacketDispatcher;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
 import io.github.rysefoxx.inventory.plugin.util.TitleUpdater;
+import io.github.rysefoxx.inventory.plugin.util.VersionUtils;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -58,10 +62,11 @@ import org.jetbrains.annotations.Nullable;
 import javax.annotation.Nonnegative;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
@@ -69,13 +74,11 @@ import java.util.stream.Collectors;
 public class RyseInventory {
     private RyseInventory originalInventory;
 
-    private PaginationData paginationCache;
+    private PatternLayout patternCache;
 
     private InventoryManager manager;
     @Getter
     private InventoryProvider provider;
-    @Getter
-    private @Nullable Inventory inventory;
     private SlideAnimation slideAnimator;
 
     @Getter(AccessLevel.PROTECTED)
@@ -124,9 +127,12 @@ public class RyseInventory {
     @Getter
     private boolean closeAble = true;
     private boolean transferData = true;
+    private boolean sharedRender;
 
     @Getter(AccessLevel.PROTECTED)
     private boolean updateTask = true;
+    @Getter(AccessLevel.PROTECTED)
+    private boolean staggerUpdates;
 
     @NotNull
     private String titleHolder = "Loading...";
@@ -148,6 +154,7 @@ public class RyseInventory {
     protected final List<Player> delayed = new ArrayList<>();
 
     private final HashMap<UUID, ItemStack[]> playerInventory = new HashMap<>();
+    private final HashMap<Integer, Inventory> sharedInventories = new HashMap<>();
     private HashMap<Integer, Consumer<InventoryClickEvent>> ignoredSlotsWithEvents = new HashMap<>();
 
     /**
@@ -160,7 +167,6 @@ public class RyseInventory {
         this.provider = inventory.provider;
         this.permanentCache = inventory.permanentCache;
         this.title = inventory.title;
-        this.inventory = inventory.inventory;
         this.clearAndSafe = inventory.clearAndSafe;
         this.slideAnimator = inventory.slideAnimator;
         this.identifier = inventory.identifier;
@@ -195,6 +201,8 @@ public class RyseInventory {
         this.playerInventory.putAll(inventory.playerInventory);
         this.pages.addAll(inventory.pages);
         this.keepOriginal = inventory.keepOriginal;
+        this.sharedRender = inventory.sharedRender;
+        this.staggerUpdates = inventory.staggerUpdates;
         this.originalInventory = inventory;
 
     }
@@ -407,7 +415,6 @@ public class RyseInventory {
 
         if (preCloseEvent.isCancelled()) return;
 
-        this.paginationCache = null;
         removeActiveAnimations();
         clearData(player);
         player.closeInventory();
@@ -422,12 +429,7 @@ public class RyseInventory {
      * @return The list with all found players.
      */
     public @NotNull List<UUID> getOpenedPlayers() {
-        List<UUID> players = new ArrayList<>();
-        Bukkit.getOnlinePlayers().forEach(player -> this.manager.getInventory(player.getUniqueId()).ifPresent(savedInventory -> {
-            if (!this.equals(savedInventory)) return;
-            players.add(player.getUniqueId());
-        }));
-        return players;
+        return this.manager.getOpenedPlayers(this);
     }
 
     /**
@@ -571,7 +573,7 @@ public class RyseInventory {
      * @param page   Which page should be opened?
      */
     public void open(@NotNull Player player, @Nonnegative int page) {
-        Bukkit.getScheduler().runTask(this.plugin, () -> initInventory(player, page, null, null));
+        this.manager.requestOpen(player.getUniqueId(), () -> initInventory(player, page, null, null));
     }
 
     /**
@@ -586,7 +588,7 @@ public class RyseInventory {
     public void open(@NotNull Player player, @Nonnegative int page, String @NotNull [] keys, Object @NotNull [] values) throws IllegalArgumentException {
         Preconditions.checkArgument(keys.length == values.length, StringConstants.INVALID_OBJECT);
 
-        Bukkit.getScheduler().runTask(this.plugin, () -> initInventory(player, page, keys, values));
+        this.manager.requestOpen(player.getUniqueId(), () -> initInventory(player, page, keys, values));
     }
 
     /**
@@ -600,7 +602,7 @@ public class RyseInventory {
         String[] keys = data.keySet().toArray(new String[0]);
         Object[] values = data.values().toArray();
 
-        Bukkit.getScheduler().runTask(this.plugin, () -> initInventory(player, page, keys, values));
+        this.manager.requestOpen(player.getUniqueId(), () -> initInventory(player, page, keys, values));
     }
 
     /**
@@ -614,7 +616,7 @@ public class RyseInventory {
     public void open(@NotNull Player player, String @NotNull [] keys, Object @NotNull [] values) throws IllegalArgumentException {
         Preconditions.checkArgument(keys.length == values.length, StringConstants.INVALID_OBJECT);
 
-        Bukkit.getScheduler().runTask(this.plugin, () -> initInventory(player, 1, keys, values));
+        this.manager.requestOpen(player.getUniqueId(), () -> initInventory(player, 1, keys, values));
     }
 
     /**
@@ -627,7 +629,64 @@ public class RyseInventory {
         String[] keys = data.keySet().toArray(new String[0]);
         Object[] values = data.values().toArray();
 
-        Bukkit.getScheduler().runTask(this.plugin, () -> initInventory(player, 1, keys, values));
+        this.manager.requestOpen(player.getUniqueId(), () -> initInventory(player, 1, keys, values));
+    }
+
+    /**
+     * Shows another page in the inventory the player already has open. Only the slots that differ between the shown
+     * page and the new page are written, the provider is not initialized again and the window is not reopened.
+     * <p>
+     * Items that depend on the page, such as the arrows of a page navigation, are not updated by this method. If the
+     * player does not have this inventory open, the new page has a different size or the inventory uses shared
+     * rendering, the page is opened with {@link #open(Player, int)} instead.
+     * <p>
+     * If the pagination is backed by a {@link PageSource} and the new page is not cached, its items are placed once the
+     * page has been loaded.
+     *
+     * @param player The player whose page should be changed.
+     * @param page   Which page should be shown?
+     * @throws IllegalArgumentException if the page does not exist.
+     */
+    public void switchPage(@NotNull Player player, @Nonnegative int page) throws IllegalArgumentException {
+        UUID uuid = player.getUniqueId();
+        Inventory inventory = this.manager.getView(uuid, this);
+        InventoryContents contents = this.manager.getContents(uuid).orElse(null);
+        int pageIndex = page - 1;
+
+        if (this.sharedRender
+                || inventory == null
+                || contents == null
+                || this.manager.getInventory(uuid).orElse(null) != this
+                || size(contents, pageIndex) != inventory.getSize()) {
+            open(player, page);
+            return;
+        }
+
+        Pagination pagination = contents.pagination();
+        if (pageIndex > pagination.lastPage())
+            throw new IllegalArgumentException("There is no " + pageIndex + " side. Last page is " + pagination.lastPage());
+
+        pagination.setPage(pageIndex);
+        CompletableFuture<List<IntelligentItem>> future = pagination.loadSourcePage(pageIndex);
+
+        for (int slot = 0; slot < inventory.getSize(); slot++) {
+            IntelligentItem item = pagination.get(slot, pageIndex);
+            if (item == null) {
+                render(inventory, slot, null);
+                continue;
+            }
+
+            if (!item.isCanSee()) {
+                item.getError().cantSee(player, item);
+                render(inventory, slot, null);
+                continue;
+            }
+
+            render(inventory, slot, item.getItemStack());
+        }
+
+        if (future != null && !future.isDone())
+            loadSourceWhenReady(pagination, player, pageIndex, future);
     }
 
     /**
@@ -645,12 +704,6 @@ public class RyseInventory {
     }
 
     private void initInventory(@NotNull Player player, @Nonnegative int page, @Nullable String[] keys, @Nullable Object[] values) {
-        if (!manager.canOpen(player.getUniqueId())) {
-            int finalPage = page;
-            Bukkit.getScheduler().runTaskLater(this.plugin, () -> initInventory(player, finalPage, keys, values), 2);
-            return;
-        }
-
         this.manager.setLastOpen(player.getUniqueId());
 
         RyseInventoryPreOpenEvent event = new RyseInventoryPreOpenEvent(player, this);
@@ -671,7 +724,7 @@ public class RyseInventory {
 
         page--;
 
-        this.inventory = setupInventory(page);
+        this.manager.setView(player.getUniqueId(), this, setupInventory(page));
 
         InventoryContents contents = new InventoryContents(player, this, this.plugin);
         Optional<InventoryContents> optional = this.manager.getContents(player.getUniqueId());
@@ -701,6 +754,46 @@ public class RyseInventory {
         closeInventoryWhenEnabled(player);
 
         finalizeInventoryAndOpen(player, contents);
+
+        if (this.provider instanceof AsyncInventoryProvider)
+            loadAsync(player, contents, (AsyncInventoryProvider<?>) this.provider);
+    }
+
+    /**
+     * Starts loading the contents of an asynchronous provider and applies them on the main thread once they are ready.
+     * Nothing is applied if the player closed the inventory or opened another one in the meantime.
+     *
+     * @param player   The player who is viewing the inventory.
+     * @param contents The contents the model is loaded for.
+     * @param provider The provider that loads the model.
+     */
+    private <T> void loadAsync(@NotNull Player player,
+                               @NotNull InventoryContents contents,
+                               @NotNull AsyncInventoryProvider<T> provider) {
+        UUID uuid = player.getUniqueId();
+        CompletableFuture<T> future = provider.load(player, this.manager.getProviderExecutor());
+        this.manager.setPendingLoad(uuid, future);
+
+        future.whenComplete((model, throwable) -> Bukkit.getScheduler().runTask(this.plugin, () -> {
+            if (!this.manager.finishLoad(uuid, future, contents))
+                return;
+
+            if (throwable != null) {
+                this.plugin.getLogger().log(Level.WARNING, "The contents of an inventory could not be loaded", throwable);
+                provider.failed(player, contents, throwable);
+                return;
+            }
+
+            provider.apply(player, contents, model);
+
+            Pagination pagination = contents.pagination();
+            checkIfIllegalPaginationData(pagination);
+            loadByPage(contents);
+            load(pagination, player, pagination.page() - 1);
+
+            if (this.loadTitle == -1 && this.title != null)
+                updateTitle(player, this.title);
+        }));
     }
 
     /**
@@ -747,17 +840,51 @@ public class RyseInventory {
 
     /**
      * With this method you can update the inventory title.
+     * The title is applied on the next tick and, below 1.20, its packets are sent one tick later, so the player sees
+     * the new title one or two ticks after this call. If the title is changed several times in one tick, only the
+     * latest title is sent, and the number of titles per second is limited by {@link InventoryManager#setMaxTitlesPerSecond(int)}.
      *
      * @param player   The Player
      * @param newTitle The new title
      * @author <a href="https://www.spigotmc.org/threads/change-inventory-title-reflection-1-8-1-18.489966/">Original code (Slightly Modified)</a>
      */
     public void updateTitle(@NotNull Player player, @NotNull String newTitle) {
-        RyseInventoryTitleChangeEvent event = new RyseInventoryTitleChangeEvent(player, this.title, newTitle);
+        this.manager.getTitleMailbox().post(player, this, newTitle);
+    }
+
+    /**
+     * Fires the title change event and sends the title to the player. Called once per tick by the {@link TitleMailbox}
+     * with the latest title of the player.
+     *
+     * @param player   The Player
+     * @param oldTitle The title the player sees, or null if the title was not changed since the window was opened
+     * @param newTitle The new title
+     * @return The title that was sent, or null if the event was cancelled.
+     */
+    @Nullable String applyTitle(@NotNull Player player, @Nullable String oldTitle, @NotNull String newTitle) {
+        RyseInventoryTitleChangeEvent event = new RyseInventoryTitleChangeEvent(player, oldTitle == null ? this.title : oldTitle, newTitle);
         Bukkit.getPluginManager().callEvent(event);
 
-        if (event.isCancelled()) return;
-        TitleUpdater.updateInventory(player, event.getNewTitle());
+        if (event.isCancelled()) return null;
+
+        InventoryTitleWrapper<Player> titleWrapper = VersionUtils.getTitleWrapper();
+        if (titleWrapper != null) {
+            titleWrapper.updateTitle(player, event.getNewTitle());
+            return event.getNewTitle();
+        }
+
+        String title = event.getNewTitle();
+        TitleUpdater.Channel channel = this.manager.getTitleChannel(player, this);
+        if (channel != null) {
+            PacketDispatcher.shared().queue(player, () -> channel.packets(title));
+            return title;
+        }
+
+        PacketDispatcher.shared().queue(player, () -> {
+            TitleUpdater.updateInventory(player, title);
+            return new Object[0];
+        });
+        return title;
     }
 
     /**
@@ -869,20 +996,20 @@ public class RyseInventory {
     }
 
     /**
-     * If the slideAnimator is not null, then for each task in the slideAnimator, if the task is queued, then increment the
+     * If the slideAnimator is not null, then for each task in the slideAnimator, if the task is scheduled, then increment the
      * counter.
      *
      * @return The number of active slide animator tasks.
      */
     protected @Nonnegative int activeSlideAnimatorTasks() {
         if (this.slideAnimator == null) return 0;
-        AtomicInteger counter = new AtomicInteger();
 
-        this.slideAnimator.getTasks().forEach(task -> {
-            if (!Bukkit.getScheduler().isQueued(task.getTaskId())) return;
-            counter.getAndIncrement();
-        });
-        return counter.get();
+        int counter = 0;
+        for (AnimationTask task : this.slideAnimator.getTasks()) {
+            if (!task.isScheduled()) continue;
+            counter++;
+        }
+        return counter;
     }
 
     /**
@@ -954,14 +1081,28 @@ public class RyseInventory {
     }
 
     /**
-     * If the privateInventory map contains the UUID, return the inventory associated with it
+     * Returns the Bukkit inventory this RyseInventory built for the player.
      *
      * @param uuid The UUID of the player you want to get the inventory of.
-     * @return An optional of the inventory.
+     * @return An optional of the inventory. Empty if the player is not shown this inventory.
      */
     @ApiStatus.Internal
     public @NotNull Optional<Inventory> inventoryBasedOnOption(@NotNull UUID uuid) {
-        return Optional.ofNullable(this.inventory);
+        return Optional.ofNullable(this.manager.getView(uuid, this));
+    }
+
+    /**
+     * Returns the Bukkit inventory of the first player who has this inventory open.
+     *
+     * @return The inventory, or null if nobody has this inventory open.
+     * @deprecated Every viewer has their own Bukkit inventory. Use {@link #inventoryBasedOnOption(UUID)} instead.
+     */
+    @Deprecated
+    public @Nullable Inventory getInventory() {
+        List<UUID> openedPlayers = getOpenedPlayers();
+        if (openedPlayers.isEmpty()) return null;
+
+        return inventoryBasedOnOption(openedPlayers.get(0)).orElse(null);
     }
 
     /**
@@ -981,7 +1122,8 @@ public class RyseInventory {
     }
 
     /**
-     * Loads the items of the given page into the inventory of the given player.
+     * Loads the items of the given page into the inventory of the given player, including the items of its {@link PageSource}.
+     * A page of the source that is not cached is loaded on the executor of the manager and placed once it is ready.
      *
      * @param pagination The Pagination object that you created.
      * @param player     The player who's viewing the inventory
@@ -994,6 +1136,76 @@ public class RyseInventory {
         pagination.getDataByPage(page)
                 .stream().filter(item -> item.getModifiedSlot() != -1)
                 .forEach(item -> placeItem(player, item.getModifiedSlot(), item.getItem()));
+
+        CompletableFuture<List<IntelligentItem>> future = pagination.loadSourcePage(page);
+        if (future == null)
+            return;
+
+        if (future.isDone()) {
+            loadSource(pagination, player, page);
+            return;
+        }
+
+        loadSourceWhenReady(pagination, player, page, future);
+    }
+
+    /**
+     * Places the items of the {@link PageSource} of the given page on the main thread once the page has been loaded,
+     * provided the player still looks at that page.
+     *
+     * @param pagination The Pagination object that you created.
+     * @param player     The player who's viewing the inventory
+     * @param page       The page number to load
+     * @param future     The future of the page that is being loaded.
+     */
+    private void loadSourceWhenReady(@NotNull Pagination pagination,
+                                     @NotNull Player player,
+                                     @Nonnegative int page,
+                                     @NotNull CompletableFuture<List<IntelligentItem>> future) {
+        UUID uuid = player.getUniqueId();
+        future.whenComplete((items, throwable) -> {
+            if (!this.plugin.isEnabled()) return;
+
+            Bukkit.getScheduler().runTask(this.plugin, () -> {
+                if (throwable != null) {
+                    this.plugin.getLogger().log(Level.WARNING, "A page of a PageSource could not be loaded", throwable);
+                    return;
+                }
+
+                // Only render the page if the player still looks at it.
+                boolean viewing = this.manager.getView(uuid, this) != null
+                        && this.manager.getContents(uuid).filter(contents -> contents.pagination() == pagination).isPresent()
+                        && pagination.page() - 1 == page;
+                if (!viewing) return;
+
+                loadSource(pagination, player, page);
+            });
+        });
+    }
+
+    /**
+     * Places the items of the {@link PageSource} of the given page that are cached into the free source slots.
+     *
+     * @param pagination The Pagination object that you created.
+     * @param player     The player who's viewing the inventory
+     * @param page       The page number to load
+     */
+    private void loadSource(@NotNull Pagination pagination,
+                            @NotNull Player player,
+                            @Nonnegative int page) {
+        int[] sourceSlots = pagination.getSourceSlots();
+        if (sourceSlots == null)
+            return;
+
+        long occupied = pagination.getOccupiedSlots(page);
+        for (int slot : sourceSlots) {
+            if ((occupied & (1L << slot)) != 0) continue;
+
+            IntelligentItem item = pagination.getFromSource(slot, page);
+            if (item == null) continue;
+
+            placeItem(player, slot, item);
+        }
     }
 
     /**
@@ -1010,16 +1222,29 @@ public class RyseInventory {
             throw new IllegalArgumentException("An attempt is made to place an item in slot -1. Check your pagination. If you could determine that it is not your error, report it on Github.");
         }
 
-        if (this.inventory != null)
-            if (slot >= this.inventory.getSize()) return;
+        Inventory inventory = this.manager.getView(player.getUniqueId(), this);
+        if (inventory != null)
+            if (slot >= inventory.getSize()) return;
 
         if (!item.isCanSee()) {
             item.getError().cantSee(player, item);
             return;
         }
 
-        if (this.inventory != null)
-            this.inventory.setItem(slot, item.getItemStack());
+        if (inventory != null)
+            render(inventory, slot, item.getItemStack());
+    }
+
+    /**
+     * Queues the ItemStack for the slot of the given inventory. All queued slots are written once on the next tick.
+     *
+     * @param inventory The inventory to write to.
+     * @param slot      The slot to write.
+     * @param itemStack The ItemStack to show, or null to clear the slot.
+     */
+    @ApiStatus.Internal
+    public void render(@NotNull Inventory inventory, @Nonnegative int slot, @Nullable ItemStack itemStack) {
+        this.manager.getRenderQueue().render(inventory, slot, itemStack);
     }
 
     /**
@@ -1034,7 +1259,7 @@ public class RyseInventory {
         if (!this.closeAble)
             throw new IllegalStateException("The #closeAfter() method could not be executed because you have forbidden closing the inventory by #preventClose.");
 
-        Bukkit.getScheduler().runTaskLater(this.plugin, () -> close(player), this.closeAfter);
+        this.manager.schedule(player.getUniqueId(), this.closeAfter, () -> close(player));
     }
 
     /**
@@ -1096,12 +1321,37 @@ public class RyseInventory {
     }
 
     /**
-     * It creates an inventory with the title of the menu and the size of the menu
+     * Returns the inventory for the page. With shared rendering all viewers of a page get the same inventory,
+     * otherwise a new one is created. A shared inventory is dropped once its last viewer left, and one that nobody
+     * views anymore is cleared before it is handed out again, so nothing of a previous viewer is left in it.
      *
      * @param pageNumber The page number that the inventory is being opened for.
      * @return An Inventory
      */
     private @NotNull Inventory setupInventory(@Nonnegative int pageNumber) {
+        if (!this.sharedRender)
+            return createInventory(pageNumber);
+
+        Inventory inventory = this.sharedInventories.get(pageNumber);
+        if (inventory == null) {
+            inventory = createInventory(pageNumber);
+            this.sharedInventories.put(pageNumber, inventory);
+            return inventory;
+        }
+
+        if (inventory.getViewers().isEmpty())
+            inventory.clear();
+
+        return inventory;
+    }
+
+    /**
+     * It creates an inventory with the title of the menu and the size of the menu
+     *
+     * @param pageNumber The page number that the inventory is being created for.
+     * @return An Inventory
+     */
+    private @NotNull Inventory createInventory(@Nonnegative int pageNumber) {
         int finalSize = this.size;
 
         if (finalSize == -1 && !this.pages.isEmpty()) {
@@ -1118,17 +1368,18 @@ public class RyseInventory {
             return Bukkit.createInventory(null, finalSize, title);
         }
 
-        return inventory = Bukkit.createInventory(null, this.inventoryOpenerType.getType(), title);
+        return Bukkit.createInventory(null, this.inventoryOpenerType.getType(), title);
     }
 
     /**
-     * If the title is not loaded, return the title, otherwise return the title holder.
+     * If the title is not loaded, return the title, otherwise return the title holder. Inventories of an
+     * {@link AsyncInventoryProvider} show the title holder until their contents are loaded.
      *
      * @return The title of the book.
      */
     @Contract(pure = true)
     private @NotNull String buildTitle() {
-        if (this.loadTitle == -1 && this.title != null)
+        if (this.loadTitle == -1 && this.title != null && !(this.provider instanceof AsyncInventoryProvider))
             return this.title;
 
         return this.titleHolder;
@@ -1210,13 +1461,13 @@ public class RyseInventory {
                            @NotNull Pagination pagination,
                            @NotNull Player player) {
         if (this.loadDelay != -1) {
-            Bukkit.getScheduler().runTaskLater(this.plugin, () -> load(pagination, player, page), this.loadDelay);
+            this.manager.schedule(player.getUniqueId(), this.loadDelay, () -> load(pagination, player, page));
         } else {
             load(pagination, player, page);
         }
 
         if (this.loadTitle != -1)
-            Bukkit.getScheduler().runTaskLater(this.plugin, () -> updateTitle(player, this.title), this.loadTitle);
+            this.manager.schedule(player.getUniqueId(), this.loadTitle, () -> updateTitle(player, this.title));
     }
 
 
@@ -1242,17 +1493,13 @@ public class RyseInventory {
         if (this.keepOriginal)
             this.originalInventory = this;
 
-        Bukkit.getScheduler().runTask(this.plugin, () -> {
-            if (this.openDelay == -1 || this.delayed.contains(player)) {
-                openInventory(player, contents);
-            } else {
-                if (!this.delayed.contains(player)) {
-                    Bukkit.getScheduler().runTaskLater(this.plugin, () ->
-                            openInventory(player, contents), this.openDelay);
-                    this.delayed.add(player);
-                }
-            }
-        });
+        if (this.openDelay == -1 || this.delayed.contains(player)) {
+            openInventory(player, contents);
+            return;
+        }
+
+        this.manager.schedule(player.getUniqueId(), this.openDelay, () -> openInventory(player, contents));
+        this.delayed.add(player);
     }
 
     /**
@@ -1271,7 +1518,12 @@ public class RyseInventory {
      * @param player The player who will open the inventory.
      */
     private void openInventory(@NotNull Player player, @NotNull InventoryContents contents) {
+        Inventory inventory = this.manager.getView(player.getUniqueId(), this);
+        if (inventory == null) return;
+
+        this.manager.getRenderQueue().flush(inventory);
         player.openInventory(inventory);
+        this.manager.resetTitle(player.getUniqueId());
         this.manager.invokeScheduler(player, this);
         this.manager.setInventory(player.getUniqueId(), this);
 
@@ -1291,27 +1543,6 @@ public class RyseInventory {
         }
     }
 
-    /**
-     * Get the item in the given slot on the given page.
-     * <p>
-     * The first thing you'll notice is that the function is private. This is because it's only used internally by the
-     * class
-     *
-     * @param inventoryData The list of IntelligentItemData objects that are stored in the inventory.
-     * @param slot          The slot in the inventory that you want to get the item from.
-     * @param page          The page of the inventory.
-     * @return The item in the slot and page.
-     */
-    private @Nullable IntelligentItem get(@NotNull List<IntelligentItemData> inventoryData,
-                                          @Nonnegative int slot,
-                                          @Nonnegative int page) {
-        for (IntelligentItemData data : inventoryData) {
-            if (data.getPage() == page && data.getModifiedSlot() == slot)
-                return data.getItem();
-        }
-        return null;
-    }
-
     /**
      * If the iterator type is horizontal, increment the slot by one. If the iterator type is vertical, increment the slot
      * by nine.
@@ -1351,6 +1582,20 @@ public class RyseInventory {
 
         this.delayed.remove(player);
         this.manager.removeInventoryFromPlayer(player.getUniqueId());
+        releaseSharedInventories(player.getUniqueId());
+    }
+
+    /**
+     * Drops the shared inventories that are no longer viewed by anyone but the given player, who is leaving. Bukkit
+     * only removes a viewer after the inventory was closed, so the leaving player may still be listed.
+     *
+     * @param leaving The UUID of the player who is leaving.
+     */
+    private void releaseSharedInventories(@NotNull UUID leaving) {
+        if (this.sharedInventories.isEmpty()) return;
+
+        this.sharedInventories.values().removeIf(inventory -> inventory.getViewers().stream()
+                .allMatch(viewer -> viewer.getUniqueId().equals(leaving)));
     }
 
     /**
@@ -1383,7 +1628,6 @@ public class RyseInventory {
     public void removeMaterialAnimator(@NotNull IntelligentMaterialAnimator animator) {
         this.materialAnimator.remove(animator);
 
-        if (!Bukkit.getScheduler().isQueued(animator.getTask().getTaskId())) return;
         animator.getTask().cancel();
     }
 
@@ -1396,7 +1640,6 @@ public class RyseInventory {
     public void removeItemAnimator(@NotNull IntelligentItemNameAnimator animator) {
         this.itemAnimator.remove(animator);
 
-        if (!Bukkit.getScheduler().isQueued(animator.getTask().getTaskId())) return;
         animator.getTask().cancel();
     }
 
@@ -1419,7 +1662,6 @@ public class RyseInventory {
     public void removeTitleAnimator(@NotNull IntelligentTitleAnimator animator) {
         this.titleAnimator.remove(animator);
 
-        if (!Bukkit.getScheduler().isQueued(animator.getTask().getTaskId())) return;
         animator.getTask().cancel();
     }
 
@@ -1442,23 +1684,16 @@ public class RyseInventory {
     public void removeLoreAnimator(@NotNull IntelligentItemLoreAnimator animator) {
         this.loreAnimator.remove(animator);
 
-        animator.getTasks().forEach(bukkitTask -> {
-            if (!Bukkit.getScheduler().isQueued(bukkitTask.getTaskId())) return;
-            bukkitTask.cancel();
-        });
+        animator.getTasks().forEach(AnimationTask::cancel);
     }
 
     /**
-     * If the slideAnimator is null, return. If the slideAnimator is not null, get all the tasks in the slideAnimator and
-     * for each task, if the task is queued, cancel it
+     * If the slideAnimator is null, return. If the slideAnimator is not null, cancel all the tasks in the slideAnimator
      */
     protected void removeSlideAnimator() {
         if (this.slideAnimator == null) return;
 
-        this.slideAnimator.getTasks().forEach(bukkitTask -> {
-            if (!Bukkit.getScheduler().isQueued(bukkitTask.getTaskId())) return;
-            bukkitTask.cancel();
-        });
+        this.slideAnimator.getTasks().forEach(AnimationTask::cancel);
         this.slideAnimator.clearTasks();
     }
 
@@ -1474,23 +1709,57 @@ public class RyseInventory {
 
         if (iterator == null) return;
 
-        SlotIterator.SlotIteratorType type = iterator.getType();
         SlotIteratorPattern pattern = iterator.getPatternBuilder();
 
         checkIfInventoryTypeIsValid(pattern);
 
-        int itemsSet = 0;
-        int page = 0;
-        int startSlot = iterator.getSlot();
+        if (pagination.getSource() != null) {
+            pagination.setSourceSlots(findSourceSlots(contents, pagination, iterator, pattern));
+            return;
+        }
+
         List<IntelligentItemData> data = contents.pagination().getInventoryData();
 
         if (pattern != null) {
-            applyPattern(pagination, iterator, pattern, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), contents, itemsSet, page, startSlot);
+            applyPattern(pagination, iterator, pattern, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), contents);
             return;
         }
 
-        applyStandardPagination(contents, pagination, iterator, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), type);
-        contents.pagination().setInventoryData(data);
+        applyStandardPagination(contents, pagination, iterator, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()));
+    }
+
+    /**
+     * Collects the slots of a page that show the items of a {@link PageSource}. These are the slots of the pattern or
+     * layout plan that are not occupied by items shown on all pages, limited to the items per page.
+     *
+     * @param contents   The InventoryContents object that is used to determine the inventory size.
+     * @param pagination The pagination that is backed by the source.
+     * @param iterator   The slot iterator that is being used.
+     * @param pattern    The pattern of the iterator or null if it has none.
+     * @return The slots in the order of the items of a page.
+     */
+    private int @NotNull [] findSourceSlots(@NotNull InventoryContents contents,
+                                            @NotNull Pagination pagination,
+                                            @NotNull SlotIterator iterator,
+                                            @Nullable SlotIteratorPattern pattern) {
+        int[] slots = pattern != null
+                ? compilePattern(iterator, pattern, contents).getSlots()
+                : iterator.getLayoutPlan(size(contents)).getSlots();
+
+        long occupied = iterator.isOverride() ? 0 : pagination.getPresetSlots();
+        int itemsPerPage = iterator.getEndPosition() == -1 ? pagination.getItemsPerPage() : Integer.MAX_VALUE;
+
+        int[] result = new int[slots.length];
+        int found = 0;
+
+        for (int i = 0; i < slots.length && found < itemsPerPage; i++) {
+            int slot = slots[i];
+            if ((occupied & (1L << slot)) != 0) continue;
+
+            result[found++] = slot;
+        }
+
+        return Arrays.copyOf(result, found);
     }
 
     /**
@@ -1504,15 +1773,8 @@ public class RyseInventory {
     private void applyStandardPagination(@NotNull InventoryContents contents,
                                          @NotNull Pagination pagination,
                                          @NotNull SlotIterator iterator,
-                                         @NotNull List<IntelligentItemData> data,
-                                         @NotNull SlotIterator.SlotIteratorType type) {
-
-        PaginationData paginationData = this.paginationCache == null
-                ? findAllEmptySlots(contents, iterator, data.size(), type)
-                : this.paginationCache.newInstance();
-
-        if (this.paginationCache == null)
-            this.paginationCache = paginationData.newInstance();
+                                         @NotNull List<IntelligentItemData> data) {
+        PaginationData paginationData = findAllEmptySlots(contents, iterator, data.size());
 
         for (IntelligentItemData itemData : data) {
             if (itemData.getModifiedSlot() != -1) continue;
@@ -1524,154 +1786,109 @@ public class RyseInventory {
                 continue;
 
             pagination.remove(slot, page);
-
-            itemData.setPage(page);
-            itemData.setModifiedSlot(slot);
+            pagination.place(itemData, slot, page);
         }
     }
 
+    /**
+     * Applies the layout plan of the iterator page by page and collects the free slots for the given amount of items.
+     *
+     * @param contents      The InventoryContents object that is used to determine the inventory size.
+     * @param iterator      The slot iterator that is being used.
+     * @param requiredSlots The amount of slots to find.
+     * @return The found slots and their pages in the order in which they are filled.
+     */
     private @NotNull PaginationData findAllEmptySlots(@NotNull InventoryContents contents,
                                                       @NotNull SlotIterator iterator,
-                                                      @Nonnegative int requiredSlots,
-                                                      @NotNull SlotIterator.SlotIteratorType type) {
-        PaginationData data = new PaginationData();
-
-        int itemsPerPage = contents.pagination().getItemsPerPage();
-
-        int slot = iterator.getSlot();
-        int page = 0;
-        int slotsFound = 0;
-
-        int toAddVertical = 0;
-
-        while (requiredSlots > 0) {
-            if (type == SlotIterator.SlotIteratorType.VERTICAL) {
-                int column = slot % 9;
-
-                if (slot >= size(contents)) {
-                    if (column < 8 && (iterator.getSlot() + (toAddVertical + 1)) % 9 < 8) {
-                        toAddVertical++;
-                        slot = iterator.getSlot() + toAddVertical;
-                    } else {
-                        toAddVertical = 0;
-                        slotsFound = 0;
-                        page++;
-                        slot = iterator.getSlot();
-                    }
-                }
-            } else {
-                if (slot >= size(contents)) {
-                    slotsFound = 0;
-                    page++;
-                    slot = iterator.getSlot();
-                }
-            }
+                                                      @Nonnegative int requiredSlots) {
+        Pagination pagination = contents.pagination();
+        PaginationData data = new PaginationData(requiredSlots);
 
-            if ((!iterator.isOverride() && contents.getWithinPage(slot, page).isPresent()) || iterator.getBlackListInternal().contains(slot)) {
-                if (type == SlotIterator.SlotIteratorType.HORIZONTAL)
-                    slot++;
-                else
-                    slot += 9;
-                continue;
-            }
+        int[] slots = iterator.getLayoutPlan(size(contents)).getSlots();
+        if (slots.length == 0)
+            return data;
 
-            if ((slotsFound >= itemsPerPage && iterator.getEndPosition() == -1) || (slot > iterator.getEndPosition() && iterator.getEndPosition() != -1)) {
-                if (slot > iterator.getEndPosition() && iterator.getEndPosition() != -1 && type == SlotIterator.SlotIteratorType.VERTICAL && slot % 9 != iterator.getEndPosition() % 9) {
-                    slot += 9;
-                    continue;
-                }
+        int itemsPerPage = iterator.getEndPosition() == -1 ? pagination.getItemsPerPage() : Integer.MAX_VALUE;
 
-                toAddVertical = 0;
-                slotsFound = 0;
-                page++;
-                slot = iterator.getSlot();
-            }
+        for (int page = 0; requiredSlots > 0; page++) {
+            long occupied = iterator.isOverride() ? 0 : pagination.getOccupiedSlots(page);
+            int slotsFound = 0;
+
+            for (int i = 0; i < slots.length && slotsFound < itemsPerPage && requiredSlots > 0; i++) {
+                int slot = slots[i];
+                if ((occupied & (1L << slot)) != 0) continue;
 
-            data.add(slot, page);
+                data.add(slot, page);
+                slotsFound++;
+                requiredSlots--;
+            }
 
-            requiredSlots--;
-            slotsFound++;
-            if (type == SlotIterator.SlotIteratorType.HORIZONTAL)
-                slot++;
-            else
-                slot += 9;
+            if (slotsFound == 0 && page >= pagination.getPageCount())
+                break;
         }
 
         return data;
     }
 
     /**
-     * It applies the pattern to the inventory
+     * It applies the pattern to the inventory. The pattern is compiled into its slot order once and the items are
+     * then assigned in a single pass, skipping slots that are already occupied unless the iterator overrides them.
      *
      * @param pagination The pagination object that contains the items per page, the page, and the inventory.
      * @param iterator   The iterator that will be used to iterate through the slots.
      * @param pattern    The pattern that will be applied to the inventory.
      * @param data       The list of IntelligentItemData objects that are being applied to the inventory.
-     * @param itemsSet   The amount of items that have been set on the current page.
-     * @param page       The page number of the inventory
-     * @param startSlot  The slot where the pagination starts.
+     * @param contents   The InventoryContents object that is used to determine the inventory size.
      */
     private void applyPattern(@NotNull Pagination pagination,
                               @NotNull SlotIterator iterator,
                               @NotNull SlotIteratorPattern pattern,
                               @NotNull List<IntelligentItemData> data,
-                              @NotNull InventoryContents contents,
-                              @Nonnegative int itemsSet,
-                              @Nonnegative int page,
-                              int startSlot) {
-        int slot = startSlot;
-        if (startSlot == -1) {
-            startSlot = 0;
-            slot = startSlot;
-        }
-
-        List<String> lines = pattern.getLines();
-
-        do {
-            for (int j = 0; j < lines.size(); j++) {
-                String line = lines.get(j);
-                char[] charArray = line.toCharArray();
-                for (char lineChar : charArray) {
-                    if ((itemsSet >= pagination.getItemsPerPage() && iterator.getEndPosition() == -1)
-                            || slot > pagination.inventory().size(contents) - 1
-                            || (slot >= iterator.getEndPosition() && iterator.getEndPosition() != -1)) {
-                        itemsSet = 0;
-                        slot = startSlot;
-                        page++;
-                        j = -1;
-                        break;
-                    }
-
-                    if (lineChar != pattern.getAttachedChar()) {
-                        slot++;
-                        continue;
-                    }
-
-                    if (get(data, slot, page) != null && !iterator.isOverride()) {
-                        slot++;
-                        continue;
-                    }
-
-                    List<IntelligentItemData> dataList = data.stream()
-                            .filter(item -> item.getModifiedSlot() == -1)
-                            .collect(Collectors.toList());
-
-                    if (dataList.isEmpty())
-                        break;
-
-                    IntelligentItemData itemData = dataList.get(0);
-
-                    int index = data.indexOf(itemData);
-
-                    itemData.setPage(page);
-                    itemData.setModifiedSlot(slot);
-
-                    data.set(index, itemData);
-                    itemsSet++;
-                    slot++;
-                }
+                              @NotNull InventoryContents contents) {
+        int[] slots = compilePattern(iterator, pattern, contents).getSlots();
+        if (slots.length == 0)
+            return;
+
+        int itemsPerPage = iterator.getEndPosition() == -1 ? pagination.getItemsPerPage() : Integer.MAX_VALUE;
+        int index = 0;
+
+        for (int page = 0; index < data.size(); page++) {
+            long occupied = iterator.isOverride() ? 0 : pagination.getOccupiedSlots(page);
+            int itemsSet = 0;
+
+            for (int i = 0; i < slots.length && itemsSet < itemsPerPage && index < data.size(); i++) {
+                int slot = slots[i];
+                if ((occupied & (1L << slot)) != 0) continue;
+
+                pagination.place(data.get(index++), slot, page);
+                itemsSet++;
             }
-        } while (data.stream().anyMatch(item -> item.getModifiedSlot() == -1));
+
+            if (itemsSet == 0 && page >= pagination.getPageCount())
+                return;
+        }
+    }
+
+    /**
+     * Returns the slot order of the pattern and compiles it again only if the pattern, the iterator or the inventory
+     * size changed since the last call.
+     *
+     * @param iterator The iterator that will be used to iterate through the slots.
+     * @param pattern  The pattern of the iterator.
+     * @param contents The InventoryContents object that is used to determine the inventory size.
+     * @return The compiled pattern.
+     */
+    private @NotNull PatternLayout compilePattern(@NotNull SlotIterator iterator,
+                                                  @NotNull SlotIteratorPattern pattern,
+                                                  @NotNull InventoryContents contents) {
+        int startSlot = Math.max(iterator.getSlot(), 0);
+        int endPosition = iterator.getEndPosition();
+        int size = size(contents);
+
+        if (this.patternCache == null || !this.patternCache.matches(pattern, startSlot, endPosition, size))
+            this.patternCache = PatternLayout.compile(pattern, startSlot, endPosition, size);
+
+        return this.patternCache;
     }
 
     /**
@@ -1710,6 +1927,8 @@ public class RyseInventory {
             this.ryseInventory.fixedPageSize = builder.ryseInventory.fixedPageSize;
             this.ryseInventory.ignoredSlotsWithEvents = builder.ryseInventory.ignoredSlotsWithEvents;
             this.ryseInventory.updateTask = builder.ryseInventory.updateTask;
+            this.ryseInventory.sharedRender = builder.ryseInventory.sharedRender;
+            this.ryseInventory.staggerUpdates = builder.ryseInventory.staggerUpdates;
         }
 
         public @NotNull Builder newInstance() {
@@ -2019,6 +2238,35 @@ public class RyseInventory {
             return this;
         }
 
+        /**
+         * If this method is called, all players who open the same page share one Bukkit inventory instead of getting
+         * their own. Every change is then shown to all of them at once.
+         * <p>
+         * Only use this for menus that look the same for every player. The contents should not be changed after the
+         * first player opened a page: every player still has their own {@link InventoryContents}, so a change made
+         * through the contents of one player is shown to all viewers, but only the contents and pagination of that
+         * player know about it. Clicks of the other viewers still use their own items. The shared inventory of a page
+         * is cleared when it is opened again after nobody viewed it anymore.
+         *
+         * @return The Inventory Builder to set additional options.
+         */
+        public @NotNull Builder sharedRender() {
+            this.ryseInventory.sharedRender = true;
+            return this;
+        }
+
+        /**
+         * If this method is called, the {@link InventoryProvider#update(Player, InventoryContents)} calls of all
+         * players are spread over the period instead of running in the same tick.
+         * A player's first update may then come up to one period later than the delay.
+         *
+         * @return The Inventory Builder to set additional options.
+         */
+        public @NotNull Builder staggerUpdates() {
+            this.ryseInventory.staggerUpdates = true;
+            return this;
+        }
+
         /**
          * Adjusts the delay of the scheduler.
          *
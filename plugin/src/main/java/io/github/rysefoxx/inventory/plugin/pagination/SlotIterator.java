@@ -45,6 +45,7 @@ public class SlotIterator {
     private boolean override;
     private List<Integer> blackList = new ArrayList<>();
     private SlotIteratorPattern pattern;
+    private LayoutPlan layoutPlan;
 
     @Contract(" -> new")
     public static @NotNull Builder builder() {
@@ -115,6 +116,22 @@ public class SlotIterator {
         return this.blackList;
     }
 
+    /**
+     * Returns the slot order of a page for the given inventory size. The plan is shared by every pagination that uses
+     * this iterator and is only compiled again if the iterator or the size changes.
+     *
+     * @param size The size of the inventory.
+     * @return The compiled plan.
+     */
+    @NotNull LayoutPlan getLayoutPlan(@Nonnegative int size) {
+        long blackListMask = LayoutPlan.blackListMask(this.blackList);
+
+        if (this.layoutPlan == null || !this.layoutPlan.matches(this.type, this.slot, this.endPosition, blackListMask, size))
+            this.layoutPlan = LayoutPlan.compile(this.type, this.slot, this.endPosition, blackListMask, size);
+
+        return this.layoutPlan;
+    }
+
     /**
      * An enum that is used to tell the SlotIterator how to place the items.
      */
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Contract;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * A snapshot of the counters of the delayed menu actions of an {@link InventoryManager}.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @see InventoryManager#getTimeoutMetrics()
+ * @since 10/16/2026
+ */
+@Getter
+public final class TimeoutMetrics {
+
+    /**
+     * How many actions were scheduled.
+     */
+    private final long scheduled;
+    /**
+     * How many actions were run.
+     */
+    private final long expired;
+    /**
+     * How many actions were cancelled before they were run.
+     */
+    private final long cancelled;
+    /**
+     * How many actions are waiting to be run.
+     */
+    private final int pending;
+
+    @Contract(pure = true)
+    TimeoutMetrics(@Nonnegative long scheduled, @Nonnegative long expired, @Nonnegative long cancelled, @Nonnegative int pending) {
+        this.scheduled = scheduled;
+        this.expired = expired;
+        this.cancelled = cancelled;
+        this.pending = pending;
+    }
+}
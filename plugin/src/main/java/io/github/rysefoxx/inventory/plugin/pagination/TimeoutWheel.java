@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Runs the delayed actions of all menus of an {@link InventoryManager}, such as closeAfter, openDelay, loadDelay,
+ * loadTitle and click delays. The timeouts are kept in a hashed wheel of tick buckets that is advanced by one
+ * repeating task, which only runs while timeouts are pending. Scheduling and cancelling a timeout does not depend on
+ * the amount of pending timeouts.
+ * <p>
+ * Every timeout belongs to a key, the session of a player, so all timeouts of a player can be cancelled at once when
+ * the player leaves the menu.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class TimeoutWheel {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final Plugin plugin;
+    private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+    private final Map<Object, Set<Timeout>> keys = new IdentityHashMap<>();
+
+    private BukkitTask driver;
+    private long tick;
+    private int pending;
+
+    private long scheduled;
+    private long expired;
+    private long cancelled;
+
+    TimeoutWheel(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Runs the task after the delay on the main thread, unless it is cancelled before.
+     *
+     * @param key   The key the timeout belongs to.
+     * @param delay The delay in ticks. Delays of less than one tick are run on the next tick.
+     * @param task  The task to run.
+     * @return The timeout to cancel the task with.
+     */
+    @NotNull Timeout schedule(@NotNull Object key, long delay, @NotNull Runnable task) {
+        delay = Math.max(1, delay);
+
+        Timeout timeout = new Timeout(key, task, (int) ((this.tick + delay) & MASK), (delay - 1) / WHEEL_SIZE);
+        link(timeout);
+        this.keys.computeIfAbsent(key, ignored -> new LinkedHashSet<>()).add(timeout);
+
+        this.pending++;
+        this.scheduled++;
+
+        if (this.driver == null)
+            this.driver = Bukkit.getScheduler().runTaskTimer(this.plugin, this::tick, 1, 1);
+
+        return timeout;
+    }
+
+    /**
+     * Cancels every pending timeout of the key.
+     *
+     * @param key The key whose timeouts should be cancelled.
+     */
+    void cancelAll(@NotNull Object key) {
+        Set<Timeout> timeouts = this.keys.remove(key);
+        if (timeouts == null) return;
+
+        for (Timeout timeout : timeouts.toArray(new Timeout[0]))
+            timeout.cancel();
+    }
+
+    /**
+     * Cancels all pending timeouts and stops the driver.
+     */
+    void shutdown() {
+        for (Object key : this.keys.keySet().toArray())
+            cancelAll(key);
+
+        stop();
+    }
+
+    /**
+     * @return A snapshot of the counters of this wheel.
+     */
+    @NotNull TimeoutMetrics metrics() {
+        return new TimeoutMetrics(this.scheduled, this.expired, this.cancelled, this.pending);
+    }
+
+    private void tick() {
+        this.tick++;
+
+        List<Timeout> due = null;
+        for (Timeout timeout = this.buckets[(int) (this.tick & MASK)]; timeout != null; ) {
+            Timeout next = timeout.next;
+
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+            } else {
+                if (due == null)
+                    due = new ArrayList<>();
+
+                due.add(timeout);
+            }
+            timeout = next;
+        }
+
+        if (due != null) {
+            for (Timeout timeout : due)
+                expire(timeout);
+        }
+
+        if (this.pending == 0)
+            stop();
+    }
+
+    private void expire(@NotNull Timeout timeout) {
+        if (!timeout.pending) return;
+
+        release(timeout);
+        this.expired++;
+
+        try {
+            timeout.task.run();
+        } catch (Throwable throwable) {
+            this.plugin.getLogger().log(Level.WARNING, "A delayed menu action generated an exception", throwable);
+        }
+    }
+
+    private void release(@NotNull Timeout timeout) {
+        timeout.pending = false;
+        unlink(timeout);
+        this.pending--;
+
+        Set<Timeout> timeouts = this.keys.get(timeout.key);
+        if (timeouts == null) return;
+
+        timeouts.remove(timeout);
+        if (timeouts.isEmpty())
+            this.keys.remove(timeout.key);
+    }
+
+    private void link(@NotNull Timeout timeout) {
+        Timeout head = this.buckets[timeout.bucket];
+        timeout.next = head;
+        if (head != null)
+            head.previous = timeout;
+
+        this.buckets[timeout.bucket] = timeout;
+    }
+
+    private void unlink(@NotNull Timeout timeout) {
+        if (timeout.previous != null)
+            timeout.previous.next = timeout.next;
+        else if (this.buckets[timeout.bucket] == timeout)
+            this.buckets[timeout.bucket] = timeout.next;
+
+        if (timeout.next != null)
+            timeout.next.previous = timeout.previous;
+
+        timeout.previous = null;
+        timeout.next = null;
+    }
+
+    private void stop() {
+        if (this.driver == null) return;
+
+        this.driver.cancel();
+        this.driver = null;
+    }
+
+    /**
+     * A task that is run by a {@link TimeoutWheel}.
+     */
+    final class Timeout {
+
+        private final Object key;
+        private final Runnable task;
+        private final int bucket;
+
+        private long rounds;
+        private boolean pending = true;
+        private @Nullable Timeout previous;
+        private @Nullable Timeout next;
+
+        private Timeout(@NotNull Object key, @NotNull Runnable task, @Nonnegative int bucket, long rounds) {
+            this.key = key;
+            this.task = task;
+            this.bucket = bucket;
+            this.rounds = rounds;
+        }
+
+        /**
+         * Cancels the task if it has not run yet.
+         */
+        void cancel() {
+            if (!this.pending) return;
+
+            release(this);
+            cancelled++;
+        }
+    }
+}
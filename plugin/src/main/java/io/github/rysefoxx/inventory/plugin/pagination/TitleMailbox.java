@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects the title changes of all players of an {@link InventoryManager} and applies them once on the next
+ * tick. Only the latest title of a player in one tick is applied, a title that equals the one the player already sees
+ * is dropped, and each player gets at most a configured number of titles per second. Titles that exceed the limit wait
+ * in the mailbox and are replaced by newer ones.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class TitleMailbox {
+
+    static final int DEFAULT_MAX_TITLES_PER_SECOND = 20;
+
+    private static final long WINDOW_MILLIS = 1000;
+
+    private final Plugin plugin;
+    private final InventoryManager manager;
+    private final Map<UUID, PendingTitle> queued = new LinkedHashMap<>();
+    private final Map<UUID, TitleState> states = new HashMap<>();
+
+    private int maxTitlesPerSecond = DEFAULT_MAX_TITLES_PER_SECOND;
+    private boolean scheduled;
+
+    TitleMailbox(@NotNull Plugin plugin, @NotNull InventoryManager manager) {
+        this.plugin = plugin;
+        this.manager = manager;
+    }
+
+    /**
+     * @param maxTitlesPerSecond The number of titles a player is sent at most per second.
+     */
+    void setMaxTitlesPerSecond(int maxTitlesPerSecond) {
+        this.maxTitlesPerSecond = maxTitlesPerSecond;
+    }
+
+    /**
+     * Queues the title for the player. A previously queued title of the player is replaced.
+     *
+     * @param player    The player whose title is changed.
+     * @param inventory The inventory the title belongs to.
+     * @param title     The new title.
+     */
+    void post(@NotNull Player player, @NotNull RyseInventory inventory, @NotNull String title) {
+        this.queued.put(player.getUniqueId(), new PendingTitle(player, inventory, title));
+
+        if (!this.plugin.isEnabled()) {
+            flush();
+            return;
+        }
+        schedule();
+    }
+
+    /**
+     * Forgets the title the player sees, because the player is shown a new window or none. A queued title is kept,
+     * since it may have been set for the next window before it was opened. It is dropped on the next flush if the
+     * player does not have its inventory open.
+     *
+     * @param uuid The UUID of the player.
+     */
+    void reset(@NotNull UUID uuid) {
+        this.states.remove(uuid);
+    }
+
+    /**
+     * Applies the queued titles of all players that have not reached their limit.
+     */
+    void flush() {
+        long now = System.currentTimeMillis();
+
+        // Listeners of the title change event may queue new titles while the mailbox is flushed.
+        for (PendingTitle pending : new ArrayList<>(this.queued.values())) {
+            UUID uuid = pending.player.getUniqueId();
+
+            if (!this.manager.getInventory(uuid).filter(open -> open == pending.inventory).isPresent()) {
+                this.queued.remove(uuid, pending);
+                continue;
+            }
+
+            TitleState state = this.states.computeIfAbsent(uuid, key -> new TitleState());
+            if (pending.title.equals(state.title)) {
+                this.queued.remove(uuid, pending);
+                continue;
+            }
+
+            if (!state.tryAcquire(now, this.maxTitlesPerSecond)) continue;
+            this.queued.remove(uuid, pending);
+
+            String applied = pending.inventory.applyTitle(pending.player, state.title, pending.title);
+            if (applied != null)
+                state.title = applied;
+        }
+
+        if (this.queued.isEmpty()) return;
+
+        if (this.plugin.isEnabled()) {
+            schedule();
+            return;
+        }
+        this.queued.clear();
+    }
+
+    private void schedule() {
+        if (this.scheduled) return;
+
+        this.scheduled = true;
+        Bukkit.getScheduler().runTask(this.plugin, () -> {
+            this.scheduled = false;
+            flush();
+        });
+    }
+
+    private static final class PendingTitle {
+
+        private final Player player;
+        private final RyseInventory inventory;
+        private final String title;
+
+        private PendingTitle(@NotNull Player player, @NotNull RyseInventory inventory, @NotNull String title) {
+            this.player = player;
+            this.inventory = inventory;
+            this.title = title;
+        }
+    }
+
+    /**
+     * The title a player sees and the titles the player was sent in the current second.
+     */
+    private static final class TitleState {
+
+        private @Nullable String title;
+        private long windowStart;
+        private int sent;
+
+        private boolean tryAcquire(long now, int limit) {
+            if (now - this.windowStart >= WINDOW_MILLIS) {
+                this.windowStart = now;
+                this.sent = 0;
+            }
+
+            if (this.sent >= limit) return false;
+
+            this.sent++;
+            return true;
+        }
+    }
+}
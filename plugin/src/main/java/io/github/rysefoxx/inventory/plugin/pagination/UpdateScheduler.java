@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Level;
+
+/**
+ * Runs the update tasks of all viewers of an {@link InventoryManager}. Viewers of the same inventory are grouped and
+ * every group is driven by one repeating task that only visits the viewers that are due in the current tick.
+ * <p>
+ * Every group splits its period into phases. Without staggering a viewer is placed in the phase its delay ends in,
+ * which matches a timer of its own. With staggering the viewer is placed in the phase with the fewest viewers, so a
+ * full menu spreads its updates over the whole period instead of running them all in the same tick. Only phases that
+ * contain viewers are stored, so the memory needed depends on the viewers and not on the period.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+final class UpdateScheduler {
+
+    private final Plugin plugin;
+    private final Map<GroupKey, UpdateGroup> groups = new HashMap<>();
+
+    UpdateScheduler(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Runs the task after the delay and then every period ticks until it returns false or is cancelled.
+     *
+     * @param inventory The inventory the task belongs to.
+     * @param delay     The delay in ticks before the first run.
+     * @param period    The period in ticks between two runs.
+     * @param stagger   Whether the task may be moved to a less busy tick of the period.
+     * @param task      The task to run. Returning false cancels it.
+     * @return The subscription to cancel the task with.
+     */
+    @NotNull Subscription subscribe(@NotNull RyseInventory inventory,
+                                    long delay,
+                                    long period,
+                                    boolean stagger,
+                                    @NotNull BooleanSupplier task) {
+        GroupKey key = new GroupKey(inventory, (int) Math.max(1, period));
+        UpdateGroup group = this.groups.computeIfAbsent(key, UpdateGroup::new);
+
+        Subscription subscription = new Subscription(group, task);
+        group.add(subscription, Math.max(1, delay), stagger);
+        return subscription;
+    }
+
+    /**
+     * The viewers of one inventory that share the same period.
+     */
+    private final class UpdateGroup {
+
+        private final GroupKey key;
+        private final Map<Integer, Set<Subscription>> buckets = new HashMap<>();
+
+        private BukkitTask driver;
+        private long tick;
+        private int size;
+
+        private UpdateGroup(@NotNull GroupKey key) {
+            this.key = key;
+        }
+
+        private void add(@NotNull Subscription subscription, long delay, boolean stagger) {
+            subscription.start = this.tick + delay;
+            subscription.bucket = stagger ? leastLoadedBucket() : (int) (subscription.start % this.key.period);
+
+            this.buckets.computeIfAbsent(subscription.bucket, bucket -> new LinkedHashSet<>()).add(subscription);
+            this.size++;
+
+            if (this.driver == null)
+                this.driver = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1, 1);
+        }
+
+        private void remove(@NotNull Subscription subscription) {
+            Set<Subscription> bucket = this.buckets.get(subscription.bucket);
+            if (bucket == null || !bucket.remove(subscription)) return;
+            if (bucket.isEmpty())
+                this.buckets.remove(subscription.bucket);
+
+            this.size--;
+            if (this.size > 0) return;
+
+            stop();
+            groups.remove(this.key, this);
+        }
+
+        private void tick() {
+            this.tick++;
+            Set<Subscription> bucket = this.buckets.get((int) (this.tick % this.key.period));
+            if (bucket == null) return;
+
+            for (Subscription subscription : bucket.toArray(new Subscription[0])) {
+                if (subscription.cancelled || subscription.start > this.tick) continue;
+
+                if (!run(subscription))
+                    subscription.cancel();
+            }
+        }
+
+        private boolean run(@NotNull Subscription subscription) {
+            try {
+                return subscription.task.getAsBoolean();
+            } catch (Throwable throwable) {
+                plugin.getLogger().log(Level.WARNING, "An update task generated an exception", throwable);
+                return true;
+            }
+        }
+
+        private int leastLoadedBucket() {
+            if (this.buckets.size() < this.key.period) {
+                for (int i = 0; i < this.key.period; i++) {
+                    if (!this.buckets.containsKey(i))
+                        return i;
+                }
+            }
+
+            int result = 0;
+            int least = Integer.MAX_VALUE;
+            for (Map.Entry<Integer, Set<Subscription>> entry : this.buckets.entrySet()) {
+                if (entry.getValue().size() < least) {
+                    result = entry.getKey();
+                    least = entry.getValue().size();
+                }
+            }
+            return result;
+        }
+
+        private void stop() {
+            if (this.driver == null) return;
+
+            this.driver.cancel();
+            this.driver = null;
+        }
+    }
+
+    /**
+     * Identifies a group by the inventory instance and the period.
+     */
+    private static final class GroupKey {
+
+        private final RyseInventory inventory;
+        private final int period;
+
+        private GroupKey(@NotNull RyseInventory inventory, @Nonnegative int period) {
+            this.inventory = inventory;
+            this.period = period;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GroupKey)) return false;
+            GroupKey that = (GroupKey) o;
+            return this.inventory == that.inventory && this.period == that.period;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.inventory) + this.period;
+        }
+    }
+
+    /**
+     * A task that is run by an {@link UpdateScheduler}.
+     */
+    final class Subscription {
+
+        private final UpdateGroup group;
+        private final BooleanSupplier task;
+
+        private long start;
+        private int bucket;
+        private boolean cancelled;
+
+        private Subscription(@NotNull UpdateGroup group, @NotNull BooleanSupplier task) {
+            this.group = group;
+            this.task = task;
+        }
+
+        /**
+         * Stops the task. It will not run again.
+         */
+        void cancel() {
+            if (this.cancelled) return;
+
+            this.cancelled = true;
+            this.group.remove(this);
+        }
+    }
+}
@@ -93,17 +93,20 @@ public class ContentPattern {
         if (this.lines.isEmpty())
             throw new IllegalStateException("No pattern have been defined.");
 
+        List<Integer> slots = new ArrayList<>();
         int slot = -1;
 
         for (String line : this.lines) {
-            for (int i = 0; i < line.toCharArray().length; i++) {
+            for (int i = 0; i < line.length(); i++) {
                 slot++;
                 char c = line.charAt(i);
                 if (c != frame) continue;
 
-                this.contents.set(slot, item);
+                slots.add(slot);
             }
         }
+
+        this.contents.set(slots, item);
     }
 
     /**
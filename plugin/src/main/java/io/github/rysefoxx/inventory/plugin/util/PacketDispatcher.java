@@ -0,0 +1,321 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.util;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+
+/**
+ * Sends the menu packets of all players on the main thread. Every player has a bounded queue that keeps the packets
+ * in the order they were queued, and all queues are flushed once per tick, each with a single lookup of the
+ * connection. If the queue of a player is full, further packets are dropped and the whole inventory of the player is
+ * updated after the flush instead.
+ * <p>
+ * Packets are queued as {@link PacketFactory}s and built when they are flushed, so slot packets contain the items of
+ * that moment and not of the moment they were queued.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @see PacketMetrics
+ * @since 10/16/2026
+ */
+public final class PacketDispatcher {
+
+    /**
+     * The number of packets a player can have queued by default.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static PacketDispatcher shared;
+
+    private final Plugin plugin;
+    private final Map<UUID, PlayerQueue> queues = new LinkedHashMap<>();
+
+    private int capacity = DEFAULT_CAPACITY;
+    private boolean scheduled;
+    private int depth;
+    private int maxDepth;
+    private long queued;
+    private long sent;
+    private long dropped;
+    private long batches;
+
+    private PacketDispatcher(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * @return The dispatcher that all menus of this plugin send their packets through.
+     */
+    public static synchronized @NotNull PacketDispatcher shared() {
+        if (shared == null)
+            shared = new PacketDispatcher(JavaPlugin.getProvidingPlugin(PacketDispatcher.class));
+
+        return shared;
+    }
+
+    /**
+     * Sends everything that is still queued and drops the shared dispatcher. The next call of {@link #shared()}
+     * creates a new one for the plugin that is enabled then. Must be called on the main thread when the plugin is
+     * disabled.
+     */
+    public static void reset() {
+        PacketDispatcher dispatcher;
+        synchronized (PacketDispatcher.class) {
+            dispatcher = shared;
+            shared = null;
+        }
+
+        if (dispatcher != null)
+            dispatcher.flush();
+    }
+
+    /**
+     * Sets how many packets a player can have queued. Packets beyond it are dropped until the next flush.
+     *
+     * @param capacity The capacity of the queue of each player.
+     * @throws IllegalArgumentException if the capacity is smaller than 1.
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("The capacity must be at least 1.");
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Queues the packets for the player.
+     *
+     * @param player  The player to send the packets to.
+     * @param packets The packets to send.
+     * @return false if the packets were dropped, see {@link #queue(Player, PacketFactory)}.
+     */
+    public boolean queue(@NotNull Player player, @NotNull Object... packets) {
+        return queue(player, () -> packets);
+    }
+
+    /**
+     * Queues the factory for the player. The factory is called on the main thread when the queue is flushed. If the
+     * plugin is disabled, the factory is called right away on the main thread and dropped on any other thread.
+     *
+     * @param player  The player to send the packets to.
+     * @param factory Builds the packets to send.
+     * @return false if the queue of the player is full, or the plugin is disabled and this is not the main thread, and
+     * the factory was dropped.
+     */
+    public boolean queue(@NotNull Player player, @NotNull PacketFactory factory) {
+        Preconditions.checkArgument(player != null, "Cannot queue packets for null player.");
+        Preconditions.checkArgument(factory != null, "Cannot queue null packet factory.");
+
+        synchronized (this) {
+            if (this.plugin.isEnabled()) {
+                PlayerQueue queue = this.queues.computeIfAbsent(player.getUniqueId(), key -> new PlayerQueue(player));
+                if (queue.factories.size() >= this.capacity) {
+                    queue.overflowed = true;
+                    this.dropped++;
+                    return false;
+                }
+
+                queue.factories.add(factory);
+                this.queued++;
+                this.depth++;
+                this.maxDepth = Math.max(this.maxDepth, queue.factories.size());
+                schedule();
+                return true;
+            }
+        }
+
+        // Nothing flushes the queues of a disabled plugin anymore. The packets are sent right away if this is the main
+        // thread, and dropped otherwise, since they must not be built off the main thread.
+        if (!Bukkit.isPrimaryThread()) {
+            synchronized (this) {
+                this.dropped++;
+            }
+            return false;
+        }
+
+        int packets = send(player, ReflectionUtils.getConnection(player), factory);
+
+        synchronized (this) {
+            this.queued++;
+            this.sent += packets;
+            this.batches++;
+        }
+        return true;
+    }
+
+    /**
+     * Queues the factory for the player like {@link #queue(Player, PacketFactory)} and returns a future that is
+     * completed once the packets were written to the connection of the player.
+     *
+     * @param player  The player to send the packets to.
+     * @param factory Builds the packets to send.
+     * @return A future that is completed exceptionally if the factory was dropped or the packets could not be sent.
+     */
+    public @NotNull CompletableFuture<Void> submit(@NotNull Player player, @NotNull PacketFactory factory) {
+        Preconditions.checkArgument(factory != null, "Cannot queue null packet factory.");
+
+        TrackedFactory tracked = new TrackedFactory(factory);
+        if (!queue(player, tracked))
+            tracked.future.completeExceptionally(new IllegalStateException("The packets for " + player.getName() + " were dropped."));
+
+        return tracked.future;
+    }
+
+    /**
+     * Sends all queued packets. Must be called on the main thread.
+     */
+    public void flush() {
+        List<PlayerQueue> flushed;
+        synchronized (this) {
+            if (this.queues.isEmpty()) return;
+
+            flushed = new ArrayList<>(this.queues.values());
+            this.queues.clear();
+            this.depth = 0;
+        }
+
+        for (PlayerQueue queue : flushed) {
+            Object connection = ReflectionUtils.getConnection(queue.player);
+            int packets = 0;
+
+            for (PacketFactory factory : queue.factories)
+                packets += send(queue.player, connection, factory);
+
+            if (queue.overflowed)
+                queue.player.updateInventory();
+
+            synchronized (this) {
+                this.sent += packets;
+                this.batches++;
+            }
+        }
+    }
+
+    /**
+     * @return A snapshot of the counters of this dispatcher.
+     */
+    public synchronized @NotNull PacketMetrics metrics() {
+        return new PacketMetrics(this.queued, this.sent, this.dropped, this.batches, this.depth, this.maxDepth);
+    }
+
+    private synchronized void schedule() {
+        if (this.scheduled) return;
+
+        this.scheduled = true;
+        Bukkit.getScheduler().runTask(this.plugin, () -> {
+            synchronized (this) {
+                this.scheduled = false;
+            }
+            flush();
+        });
+    }
+
+    private static int send(@NotNull Player player, @Nullable Object connection, @NotNull PacketFactory factory) {
+        // The player left, the factories are dropped silently.
+        if (connection == null) {
+            complete(factory, null);
+            return 0;
+        }
+
+        try {
+            Object[] packets = factory.create();
+            ReflectionUtils.sendPacketSync(connection, packets);
+            complete(factory, null);
+            return packets.length;
+        } catch (Throwable throwable) {
+            Bukkit.getLogger().log(Level.SEVERE, "Error sending a packet to " + player.getName() + ".", throwable);
+            complete(factory, throwable);
+            return 0;
+        }
+    }
+
+    private static void complete(@NotNull PacketFactory factory, @Nullable Throwable throwable) {
+        if (!(factory instanceof TrackedFactory)) return;
+
+        CompletableFuture<Void> future = ((TrackedFactory) factory).future;
+        if (throwable == null) {
+            future.complete(null);
+            return;
+        }
+        future.completeExceptionally(throwable);
+    }
+
+    /**
+     * Builds the packets of one queued entry.
+     */
+    @FunctionalInterface
+    public interface PacketFactory {
+
+        /**
+         * @return The packets to send, in order.
+         * @throws Throwable if the packets could not be built.
+         */
+        Object @NotNull [] create() throws Throwable;
+    }
+
+    /**
+     * A factory whose future is completed after its packets were sent.
+     */
+    private static final class TrackedFactory implements PacketFactory {
+
+        private final PacketFactory factory;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private TrackedFactory(@NotNull PacketFactory factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object @NotNull [] create() throws Throwable {
+            return this.factory.create();
+        }
+    }
+
+    private static final class PlayerQueue {
+
+        private final Player player;
+        private final ArrayDeque<PacketFactory> factories = new ArrayDeque<>();
+        private boolean overflowed;
+
+        private PlayerQueue(@NotNull Player player) {
+            this.player = player;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.util;
+
+import lombok.Getter;
+import org.jetbrains.annotations.Contract;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * A snapshot of the counters of the {@link PacketDispatcher}.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @see PacketDispatcher#metrics()
+ * @since 10/16/2026
+ */
+@Getter
+public final class PacketMetrics {
+
+    /**
+     * How many entries were queued.
+     */
+    private final long queued;
+    /**
+     * How many packets were sent.
+     */
+    private final long sent;
+    /**
+     * How many entries were dropped, because the queue of the player was full.
+     */
+    private final long dropped;
+    /**
+     * How many queues were flushed, one per player and tick.
+     */
+    private final long batches;
+    /**
+     * How many entries are waiting to be flushed.
+     */
+    private final int depth;
+    /**
+     * The most entries one player had queued at once.
+     */
+    private final int maxDepth;
+
+    @Contract(pure = true)
+    PacketMetrics(@Nonnegative long queued,
+                  @Nonnegative long sent,
+                  @Nonnegative long dropped,
+                  @Nonnegative long batches,
+                  @Nonnegative int depth,
+                  @Nonnegative int maxDepth) {
+        this.queued = queued;
+        this.sent = sent;
+        this.dropped = dropped;
+        this.batches = batches;
+        this.depth = depth;
+        this.maxDepth = maxDepth;
+    }
+}
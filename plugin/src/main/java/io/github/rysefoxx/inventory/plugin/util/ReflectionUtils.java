@@ -241,12 +241,14 @@ public final class ReflectionUtils {
 
     /**
      * Sends a packet to the player asynchronously if they're online.
-     * Packets are thread-safe.
+     * Packets are thread-safe. Use {@link PacketDispatcher#submit(Player, PacketDispatcher.PacketFactory)} to send
+     * them on the main thread in order with the menu packets of the player.
      *
      * @param player  the player to send the packet to.
      * @param packets the packets to send.
      * @return the async thread handling the packet.
      * @see #sendPacketSync(Player, Object...)
+     * @see PacketDispatcher#submit(Player, PacketDispatcher.PacketFactory)
      * @since 1.0.0
      */
     @Nonnull
@@ -280,6 +282,18 @@ public final class ReflectionUtils {
         }
     }
 
+    /**
+     * Sends a packet synchronously through a connection that was looked up before with {@link #getConnection(Player)}.
+     *
+     * @param connection the connection of the player.
+     * @param packets    the packets to send.
+     * @throws Throwable if a packet could not be sent. The packets after it are not sent.
+     * @see #sendPacketSync(Player, Object...)
+     */
+    public static void sendPacketSync(@Nonnull Object connection, @Nonnull Object... packets) throws Throwable {
+        for (Object packet : packets) SEND_PACKET.invoke(connection, packet);
+    }
+
     @Nullable
     public static Object getHandle(@Nonnull Player player) {
         Objects.requireNonNull(player, "Cannot get handle of null player");
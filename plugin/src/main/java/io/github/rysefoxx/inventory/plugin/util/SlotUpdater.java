@@ -0,0 +1,302 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.util;
+
+import com.google.common.base.Preconditions;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sends single slots of the open window to the client instead of the whole window. {@link Player#updateInventory()}
+ * resends every slot of the window and the player inventory, although after a click only a few slots and the cursor
+ * are out of sync. After the window was opened again to change its title, all slots are out of sync, there the window
+ * is sent in one window-items packet.
+ * <p>
+ * If the packets cannot be resolved on the running version, {@link Player#updateInventory()} is used instead.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/16/2026
+ */
+@SuppressWarnings("ConstantConditions")
+public final class SlotUpdater {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final int CURSOR = -1;
+    private static final Object[] NO_PACKETS = new Object[0];
+
+    // Methods.
+    private static final MethodHandle getHandle;
+    private static final MethodHandle asNMSCopy;
+    private static final MethodHandle stateId;
+
+    private static final MethodHandle nonNullListOf;
+
+    // Constructors.
+    private static final MethodHandle packetPlayOutSetSlot;
+    private static final MethodHandle packetPlayOutWindowItems;
+
+    // Fields.
+    private static final MethodHandle activeContainer;
+    private static final MethodHandle windowId;
+
+    private static final boolean SUPPORTED;
+    private static final boolean WINDOW_ITEMS_SUPPORTED;
+    private static final boolean WINDOW_ITEMS_CARRIED;
+
+    static {
+        Class<?> craftPlayer = ReflectionUtils.getCraftClass("entity.CraftPlayer");
+        Class<?> craftItemStack = ReflectionUtils.getCraftClass("inventory.CraftItemStack");
+        Class<?> entityPlayer = ReflectionUtils.getNMSClass("server.level", "EntityPlayer");
+        Class<?> container = ReflectionUtils.getNMSClass("world.inventory", "Container");
+        Class<?> itemStack = ReflectionUtils.getNMSClass("world.item", "ItemStack");
+        Class<?> packet = ReflectionUtils.getNMSClass("network.protocol.game", "PacketPlayOutSetSlot");
+        Class<?> windowItemsPacket = ReflectionUtils.getNMSClass("network.protocol.game", "PacketPlayOutWindowItems");
+        // Since 1.11, the items of a window are kept in a NonNullList.
+        Class<?> nonNullList = ReflectionUtils.supports(11) ? ReflectionUtils.getNMSClass("core", "NonNullList") : null;
+
+        getHandle = getMethod(craftPlayer, MethodType.methodType(entityPlayer), false, "getHandle");
+        asNMSCopy = getMethod(craftItemStack, MethodType.methodType(itemStack, ItemStack.class), true, "asNMSCopy");
+
+        // Since 1.17.1, the packet contains the state id of the container.
+        MethodHandle withStateId = getConstructor(packet, int.class, int.class, int.class, itemStack);
+        packetPlayOutSetSlot = withStateId != null ? withStateId : getConstructor(packet, int.class, int.class, itemStack);
+        stateId = withStateId == null
+                ? null
+                : getMethod(container, MethodType.methodType(int.class), false, ReflectionUtils.supports(20) ? new String[]{"getStateId"} : new String[]{"getStateId", "j"});
+
+        nonNullListOf = nonNullList == null
+                ? null
+                : getMethod(nonNullList, MethodType.methodType(nonNullList, int.class, Object.class), true, "a", "withSize");
+
+        // Since 1.17.1, the packet contains the state id of the container and the item on the cursor.
+        MethodHandle withCarried = nonNullList == null ? null : getConstructor(windowItemsPacket, int.class, int.class, nonNullList, itemStack);
+        packetPlayOutWindowItems = withCarried != null
+                ? withCarried
+                : getConstructor(windowItemsPacket, int.class, nonNullList == null ? List.class : nonNullList);
+        WINDOW_ITEMS_CARRIED = withCarried != null;
+
+        activeContainer = getGetter(entityPlayer, container, "activeContainer", "bV", "bW", "bU", "bP", "containerMenu");
+        windowId = getGetter(container, int.class, "windowId", "j", "containerId");
+
+        SUPPORTED = getHandle != null
+                && asNMSCopy != null
+                && packetPlayOutSetSlot != null
+                && (withStateId == null || stateId != null)
+                && activeContainer != null
+                && windowId != null;
+        WINDOW_ITEMS_SUPPORTED = SUPPORTED
+                && packetPlayOutWindowItems != null
+                && (nonNullList == null || nonNullListOf != null);
+    }
+
+    private SlotUpdater() {
+    }
+
+    /**
+     * Queues the given slots of the open window and the cursor of the player on the {@link PacketDispatcher}. The
+     * packets are built when the dispatcher is flushed, so they contain the items of that moment.
+     *
+     * @param player   The player to update.
+     * @param rawSlots The raw slots of the open window.
+     */
+    public static void updateSlots(@NotNull Player player, int @NotNull ... rawSlots) {
+        Preconditions.checkArgument(player != null, "Cannot update slots of null player.");
+
+        PacketDispatcher.shared().queue(player, () -> packets(player, container(player), rawSlots));
+    }
+
+    /**
+     * @return true if {@link #updateWindow(Player)} sends the window in one packet on the running version.
+     */
+    public static boolean supportsWindowUpdate() {
+        return ReflectionUtils.supports(17);
+    }
+
+    /**
+     * Sends the whole open window of the player as one window-items packet, after most of its slots were changed at
+     * once. Since 1.17 the server records the items it sent this way, so the changed slots are not sent again one by
+     * one. Older servers send each changed slot on their own anyway, there this method does nothing.
+     *
+     * @param player The player to update.
+     * @see #supportsWindowUpdate()
+     */
+    public static void updateWindow(@NotNull Player player) {
+        Preconditions.checkArgument(player != null, "Cannot update window of null player.");
+
+        if (!supportsWindowUpdate()) return;
+
+        player.updateInventory();
+    }
+
+    /**
+     * Builds the packets that send every slot of the open window and the cursor of the player with the container that
+     * was looked up before. After the window was opened again, for example to change its title, the client shows an
+     * empty window.
+     *
+     * @param player    The player to update.
+     * @param container The open container of the player.
+     * @return The packets to send, empty if the whole inventory was updated instead.
+     */
+    static Object @NotNull [] windowPackets(@NotNull Player player, @NotNull Object container) {
+        if (!WINDOW_ITEMS_SUPPORTED) {
+            player.updateInventory();
+            return NO_PACKETS;
+        }
+
+        try {
+            InventoryView view = player.getOpenInventory();
+            int id = (int) windowId.invoke(container);
+            int state = stateId == null ? 0 : (int) stateId.invoke(container);
+
+            Object[] items = new Object[view.countSlots()];
+            for (int rawSlot = 0; rawSlot < items.length; rawSlot++)
+                items[rawSlot] = asNMSCopy.invoke(view.getItem(rawSlot));
+
+            if (WINDOW_ITEMS_CARRIED) {
+                Object carried = asNMSCopy.invoke(player.getItemOnCursor());
+                return new Object[]{packetPlayOutWindowItems.invoke(id, state, itemList(items), carried)};
+            }
+
+            return new Object[]{
+                    packetPlayOutWindowItems.invoke(id, itemList(items)),
+                    packet(CURSOR, state, CURSOR, player.getItemOnCursor())
+            };
+        } catch (Throwable throwable) {
+            player.updateInventory();
+            return NO_PACKETS;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull List<Object> itemList(Object @NotNull [] items) throws Throwable {
+        if (nonNullListOf == null) return Arrays.asList(items);
+
+        List<Object> list = (List<Object>) nonNullListOf.invoke(items.length, asNMSCopy.invoke((ItemStack) null));
+        for (int i = 0; i < items.length; i++)
+            list.set(i, items[i]);
+
+        return list;
+    }
+
+    private static Object @NotNull [] packets(@NotNull Player player, @Nullable Object container, int @NotNull [] rawSlots) {
+        if (container == null) {
+            player.updateInventory();
+            return NO_PACKETS;
+        }
+
+        try {
+            InventoryView view = player.getOpenInventory();
+            Object[] packets = new Object[rawSlots.length + 1];
+            int found = 0;
+
+            int id = (int) windowId.invoke(container);
+            int state = stateId == null ? 0 : (int) stateId.invoke(container);
+            int slots = view.countSlots();
+
+            for (int rawSlot : rawSlots) {
+                if (rawSlot < 0 || rawSlot >= slots) continue;
+
+                packets[found++] = packet(id, state, rawSlot, view.getItem(rawSlot));
+            }
+            packets[found++] = packet(CURSOR, state, CURSOR, player.getItemOnCursor());
+
+            if (found == packets.length) return packets;
+
+            Object[] trimmed = new Object[found];
+            System.arraycopy(packets, 0, trimmed, 0, found);
+            return trimmed;
+        } catch (Throwable throwable) {
+            player.updateInventory();
+            return NO_PACKETS;
+        }
+    }
+
+    private static @Nullable Object container(@NotNull Player player) {
+        if (!SUPPORTED) return null;
+
+        try {
+            Object entityPlayer = getHandle.invoke(player);
+            return activeContainer.invoke(entityPlayer);
+        } catch (Throwable throwable) {
+            return null;
+        }
+    }
+
+    private static @NotNull Object packet(int windowId, int stateId, int rawSlot, @Nullable ItemStack item) throws Throwable {
+        Object nmsItem = asNMSCopy.invoke(item);
+
+        return SlotUpdater.stateId == null
+                ? packetPlayOutSetSlot.invoke(windowId, rawSlot, nmsItem)
+                : packetPlayOutSetSlot.invoke(windowId, stateId, rawSlot, nmsItem);
+    }
+
+    private static @Nullable MethodHandle getMethod(@Nullable Class<?> refc, @NotNull MethodType type, boolean isStatic, String @NotNull ... names) {
+        if (refc == null) return null;
+
+        for (String name : names) {
+            try {
+                return isStatic ? LOOKUP.findStatic(refc, name, type) : LOOKUP.findVirtual(refc, name, type);
+            } catch (ReflectiveOperationException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable MethodHandle getConstructor(@Nullable Class<?> refc, Class<?> @NotNull ... types) {
+        if (refc == null) return null;
+
+        try {
+            Constructor<?> constructor = refc.getDeclaredConstructor(types);
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor);
+        } catch (ReflectiveOperationException ignored) {
+            return null;
+        }
+    }
+
+    private static @Nullable MethodHandle getGetter(@Nullable Class<?> refc, @Nullable Class<?> type, String @NotNull ... names) {
+        if (refc == null || type == null) return null;
+
+        for (String name : names) {
+            try {
+                return LOOKUP.findGetter(refc, name, type);
+            } catch (ReflectiveOperationException ignored) {
+            }
+        }
+        return null;
+    }
+}
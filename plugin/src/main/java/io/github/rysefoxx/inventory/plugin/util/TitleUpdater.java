@@ -2,6 +2,7 @@ package io.github.rysefoxx.inventory.plugin.util;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
+import io.github.rysefoxx.inventory.api.InventoryTitleWrapper;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.InventoryView;
@@ -49,7 +50,6 @@ public final class TitleUpdater {
     // Methods factory.
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
-    private static final JavaPlugin PLUGIN = JavaPlugin.getProvidingPlugin(TitleUpdater.class);
     private static final Set<String> UNOPENABLES = Sets.newHashSet("CRAFTING", "CREATIVE", "PLAYER");
     private static final boolean SUPPORTS_19 = ReflectionUtils.supports(19);
     private static final Object[] DUMMY_COLOR_MODIFIERS = new Object[0];
@@ -86,87 +86,189 @@ public final class TitleUpdater {
 
     /**
      * Update the player inventory, so you can change the title.
+     * Everything that is needed to send the title is looked up again on every call. Use {@link #openChannel(Player)}
+     * if the title of the same window is changed repeatedly.
      *
      * @param player   whose inventory will be updated.
      * @param newTitle the new title for the inventory.
      */
-    @SuppressWarnings("UnstableApiUsage")
     public static void updateInventory(Player player, String newTitle) {
         Preconditions.checkArgument(player != null, "Cannot update inventory to null player.");
 
         try {
-            if (newTitle.length() > 32) {
-                newTitle = newTitle.substring(0, 32);
-            }
-
             if (ReflectionUtils.supports(20)) {
-                throw new UnsupportedOperationException("Inventories can be updated directly from the InventoryView.");
+                InventoryTitleWrapper<Player> titleWrapper = VersionUtils.getTitleWrapper();
+                if (titleWrapper == null) return;
+
+                titleWrapper.updateTitle(player, newTitle);
+                return;
             }
 
-            // Get EntityPlayer from CraftPlayer.
-            Object craftPlayer = CRAFT_PLAYER.cast(player);
-            Object entityPlayer = getHandle.invoke(craftPlayer);
+            Channel channel = resolve(player);
+            if (channel == null) return;
 
-            // Create new title.
-            Object title;
-            if (ReflectionUtils.supports(19)) {
-                title = ReflectionUtils.toIChatBaseComponentPlain(newTitle);
-            } else {
-                title = chatMessage.invoke(newTitle, DUMMY_COLOR_MODIFIERS);
-            }
+            channel.update(newTitle);
+        } catch (Throwable throwable) {
+            throwable.printStackTrace();
+        }
+    }
+
+    /**
+     * Looks up the connection, the window id and the container type of the window the player has open. The returned
+     * channel only has to build and send the packet for each new title and stays valid until the window is closed.
+     *
+     * @param player whose open window will be updated.
+     * @return null if the title of the open window cannot be changed.
+     */
+    public static @Nullable Channel openChannel(@NotNull Player player) {
+        Preconditions.checkArgument(player != null, "Cannot open channel to null player.");
 
-            // Get activeContainer from EntityPlayer.
-            Object activeContainer = TitleUpdater.activeContainer.invoke(entityPlayer);
+        if (ReflectionUtils.supports(20)) return null;
 
-            // Get windowId from activeContainer.
-            Integer windowId = (Integer) TitleUpdater.windowId.invoke(activeContainer);
+        try {
+            return resolve(player);
+        } catch (Throwable throwable) {
+            throwable.printStackTrace();
+            return null;
+        }
+    }
 
-            // Get InventoryView from activeContainer.
-            Object bukkitView = getBukkitView.invoke(activeContainer);
-            if (!(bukkitView instanceof InventoryView)) return;
+    @SuppressWarnings("UnstableApiUsage")
+    private static @Nullable Channel resolve(@NotNull Player player) throws Throwable {
+        // Get EntityPlayer from CraftPlayer.
+        Object craftPlayer = CRAFT_PLAYER.cast(player);
+        Object entityPlayer = getHandle.invoke(craftPlayer);
 
-            // Avoiding pattern variable, since some people may be using an older version of java.
-            InventoryView view = (InventoryView) bukkitView;
-            InventoryType type = view.getTopInventory().getType();
+        // Get activeContainer from EntityPlayer.
+        Object activeContainer = TitleUpdater.activeContainer.invoke(entityPlayer);
 
-            // Workbenchs and anvils can change their title since 1.14.
-            if ((type == InventoryType.WORKBENCH || type == InventoryType.ANVIL) && !useContainers()) return;
+        // Get windowId from activeContainer.
+        Integer windowId = (Integer) TitleUpdater.windowId.invoke(activeContainer);
 
-            // You can't reopen crafting, creative and player inventory.
-            if (UNOPENABLES.contains(type.name())) return;
+        // Get InventoryView from activeContainer.
+        Object bukkitView = getBukkitView.invoke(activeContainer);
+        if (!(bukkitView instanceof InventoryView)) return null;
 
-            int size = view.getTopInventory().getSize();
+        // Avoiding pattern variable, since some people may be using an older version of java.
+        InventoryView view = (InventoryView) bukkitView;
+        InventoryType type = view.getTopInventory().getType();
 
-            // Get container, check is not null.
-            Containers container = Containers.getType(type, size);
-            if (container == null) return;
+        // Workbenchs and anvils can change their title since 1.14.
+        if ((type == InventoryType.WORKBENCH || type == InventoryType.ANVIL) && !useContainers()) return null;
 
-            // If the container was added in a newer version than the current, return.
-            if (container.getContainerVersion() > ReflectionUtils.VER && useContainers()) {
-                PLUGIN.getLogger().warning("This container doesn't work on your current version.");
-                return;
-            }
+        // You can't reopen crafting, creative and player inventory.
+        if (UNOPENABLES.contains(type.name())) return null;
 
-            Object object;
-            // Dispensers and droppers use the same container, but in previous versions, use a diferrent minecraft name.
-            if (!useContainers() && container == Containers.GENERIC_3X3) {
-                object = "minecraft:" + type.name().toLowerCase();
-            } else {
-                object = container.getObject();
-            }
+        int size = view.getTopInventory().getSize();
 
-            // Create packet.
-            Object packet = useContainers() ?
-                    packetPlayOutOpenWindow.invoke(windowId, object, title) :
-                    packetPlayOutOpenWindow.invoke(windowId, object, title, size);
+        // Get container, check is not null.
+        Containers container = Containers.getType(type, size);
+        if (container == null) return null;
 
-            // Send packet sync.
-            ReflectionUtils.sendPacketSync(player, packet);
+        // If the container was added in a newer version than the current, return.
+        if (container.getContainerVersion() > ReflectionUtils.VER && useContainers()) {
+            JavaPlugin.getProvidingPlugin(TitleUpdater.class).getLogger().warning("This container doesn't work on your current version.");
+            return null;
+        }
 
-            // Update inventory.
-            player.updateInventory();
-        } catch (Throwable throwable) {
-            throwable.printStackTrace();
+        Object object;
+        // Dispensers and droppers use the same container, but in previous versions, use a diferrent minecraft name.
+        if (!useContainers() && container == Containers.GENERIC_3X3) {
+            object = "minecraft:" + type.name().toLowerCase();
+        } else {
+            object = container.getObject();
+        }
+
+        Object connection = ReflectionUtils.getConnection(player);
+        if (connection == null) return null;
+
+        return new Channel(player, connection, activeContainer, windowId, object, size);
+    }
+
+    /**
+     * The resolved window of a player whose title can be changed. Created by {@link #openChannel(Player)}.
+     */
+    public static final class Channel {
+
+        private final Player player;
+        private final Object connection;
+        private final Object container;
+        private final int windowId;
+        private final Object type;
+        private final int size;
+
+        private Channel(@NotNull Player player,
+                        @NotNull Object connection,
+                        @NotNull Object container,
+                        int windowId,
+                        @Nullable Object type,
+                        int size) {
+            this.player = player;
+            this.connection = connection;
+            this.container = container;
+            this.windowId = windowId;
+            this.type = type;
+            this.size = size;
+        }
+
+        /**
+         * Sends the new title and the items of the window to the player.
+         *
+         * @param newTitle the new title for the inventory.
+         * @throws Throwable if the packets could not be sent.
+         */
+        public void update(@NotNull String newTitle) throws Throwable {
+            ReflectionUtils.sendPacketSync(this.connection, packets(newTitle));
+        }
+
+        /**
+         * Builds the packets that change the title: the open window packet, followed by the items of the window.
+         * Nothing is built if the player has closed the window of this channel or opened another one in the meantime.
+         *
+         * @param newTitle the new title for the inventory.
+         * @return the packets to send, empty if the window is no longer open or the packet could not be built.
+         */
+        public Object @NotNull [] packets(@NotNull String newTitle) {
+            try {
+                if (!isOpen()) return new Object[0];
+
+                if (newTitle.length() > 32) {
+                    newTitle = newTitle.substring(0, 32);
+                }
+
+                // Create new title.
+                Object title;
+                if (SUPPORTS_19) {
+                    title = ReflectionUtils.toIChatBaseComponentPlain(newTitle);
+                } else {
+                    title = chatMessage.invoke(newTitle, DUMMY_COLOR_MODIFIERS);
+                }
+
+                // Create packet.
+                Object packet = useContainers() ?
+                        packetPlayOutOpenWindow.invoke(this.windowId, this.type, title) :
+                        packetPlayOutOpenWindow.invoke(this.windowId, this.type, title, this.size);
+
+                // The reopened window is empty on the client, its items are sent in one packet.
+                Object[] items = SlotUpdater.windowPackets(this.player, this.container);
+
+                Object[] packets = new Object[items.length + 1];
+                packets[0] = packet;
+                System.arraycopy(items, 0, packets, 1, items.length);
+                return packets;
+            } catch (Throwable throwable) {
+                throwable.printStackTrace();
+                return new Object[0];
+            }
+        }
+
+        /**
+         * @return true if the window of this channel is still the open window of the player.
+         * @throws Throwable if the open window could not be looked up.
+         */
+        private boolean isOpen() throws Throwable {
+            Object entityPlayer = getHandle.invoke(CRAFT_PLAYER.cast(this.player));
+            return activeContainer.invoke(entityPlayer) == this.container;
         }
     }
 
@@ -25,8 +25,11 @@
 
 package io.github.rysefoxx.inventory.plugin.util;
 
+import io.github.rysefoxx.inventory.api.InventoryTitleWrapper;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author Rysefoxx | Rysefoxx#6772
@@ -36,6 +39,10 @@ public class VersionUtils {
 
     private static final String VERSION = Bukkit.getServer().getClass().getPackage().getName().replace(".", ",").split(",")[3];
     private static final int SUB_VERSION = Integer.parseInt(VERSION.replaceAll("_R\\d", "").replace("v", "").replaceFirst("1_", ""));
+    private static final int NATIVE_TITLE_VERSION = 20;
+    private static @Nullable InventoryTitleWrapper<Player> titleWrapper;
+    private static boolean titleWrapperLoaded;
+
     @Contract(pure = true)
     private VersionUtils() {
     }
@@ -55,4 +62,34 @@ public class VersionUtils {
         return SUB_VERSION <= 13;
     }
 
+    /**
+     * Returns the version module that changes the title of the open window through the Bukkit API. It is looked up
+     * once, when the {@link io.github.rysefoxx.inventory.plugin.pagination.InventoryManager} is invoked, and newer
+     * versions without their own module use the newest one. If no module can be loaded, a warning is logged once.
+     *
+     * @return null if the server is older than 1.20 and the title has to be changed with packets, or if no module
+     * could be loaded.
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable InventoryTitleWrapper<Player> getTitleWrapper() {
+        if (titleWrapperLoaded) return titleWrapper;
+        titleWrapperLoaded = true;
+
+        if (SUB_VERSION < NATIVE_TITLE_VERSION) return null;
+
+        for (int version = SUB_VERSION; version >= NATIVE_TITLE_VERSION; version--) {
+            try {
+                Class<?> clazz = Class.forName("io.github.rysefoxx.inventory.v1_" + version + ".TitleHandler");
+                if (!InventoryTitleWrapper.class.isAssignableFrom(clazz)) continue;
+
+                titleWrapper = (InventoryTitleWrapper<Player>) clazz.getConstructor().newInstance();
+                return titleWrapper;
+            } catch (ReflectiveOperationException ignored) {
+            }
+        }
+
+        Bukkit.getLogger().warning("No title module was found for this server version. Titles of open inventories can not be changed.");
+        return null;
+    }
+
 }